@@ -0,0 +1,93 @@
+package com.esportsnexus.cache;
+
+import com.esportsnexus.model.CacheInvalidation;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Cross-node invalidation for {@link TwoLevelCache} and for node-local caches
+ * registered with {@link #registerLocal}. Changes are written to the
+ * {@code cache_invalidations} collection and every node polls it, evicting the
+ * matching local entries it did not write itself. Each poll rereads a trailing
+ * window to tolerate clock skew between nodes; already applied notices are skipped.
+ */
+@Slf4j
+public class CacheInvalidationBus {
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration pollWindow;
+    private final String nodeId = UUID.randomUUID().toString();
+    // cacheName -> evicts a key on this node, or everything for a null key
+    private final Map<String, Consumer<String>> caches = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> applied;
+
+    public CacheInvalidationBus(MongoTemplate mongoTemplate, Duration pollWindow) {
+        this.mongoTemplate = mongoTemplate;
+        this.pollWindow = pollWindow;
+        this.applied = Caffeine.newBuilder()
+            .expireAfterWrite(pollWindow.multipliedBy(2))
+            .build();
+    }
+
+    public void register(TwoLevelCache cache) {
+        caches.put(cache.getName(), cache::evictLocal);
+    }
+
+    /**
+     * Register a cache that lives only on each node, so evictions published for it
+     * reach the other nodes without a shared tier
+     */
+    public void registerLocal(org.springframework.cache.Cache cache) {
+        caches.put(cache.getName(), key -> {
+            if (key == null) {
+                cache.clear();
+            } else {
+                cache.evict(key);
+            }
+        });
+    }
+
+    public void publish(String cacheName, Object key) {
+        try {
+            CacheInvalidation invalidation = new CacheInvalidation();
+            invalidation.setCacheName(cacheName);
+            invalidation.setKey(key != null ? key.toString() : null);
+            invalidation.setNodeId(nodeId);
+            invalidation.setCreatedAt(new Date());
+            mongoTemplate.insert(invalidation);
+        } catch (Exception e) {
+            log.warn("Error publishing invalidation for {} in {}: {}", key, cacheName, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.l2.invalidation-poll-interval-ms:2000}")
+    public void poll() {
+        try {
+            Date since = new Date(System.currentTimeMillis() - pollWindow.toMillis());
+            Query query = Query.query(Criteria.where("createdAt").gte(since).and("nodeId").ne(nodeId));
+            for (CacheInvalidation invalidation : mongoTemplate.find(query, CacheInvalidation.class)) {
+                if (applied.asMap().putIfAbsent(invalidation.getId(), Boolean.TRUE) != null) {
+                    continue;
+                }
+                Consumer<String> evictLocal = caches.get(invalidation.getCacheName());
+                if (evictLocal != null) {
+                    evictLocal.accept(invalidation.getKey());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Error polling cache invalidations: {}", e.getMessage());
+        }
+    }
+}
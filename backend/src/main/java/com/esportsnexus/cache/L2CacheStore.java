@@ -0,0 +1,22 @@
+package com.esportsnexus.cache;
+
+import java.time.Duration;
+
+/**
+ * Shared cache tier that sits behind each node's local cache. Values handed in
+ * and out are cache store values, so a cached null arrives as
+ * {@link org.springframework.cache.support.NullValue#INSTANCE}.
+ */
+public interface L2CacheStore {
+
+    /**
+     * @return the stored value, or null on a miss
+     */
+    Object get(String cacheName, Object key);
+
+    void put(String cacheName, Object key, Object value, Duration ttl);
+
+    void evict(String cacheName, Object key);
+
+    void clear(String cacheName);
+}
@@ -0,0 +1,105 @@
+package com.esportsnexus.cache;
+
+import com.esportsnexus.model.CacheEntry;
+import com.esportsnexus.service.pubg.PubgBinaryCodec;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * L2 tier kept in the {@code cache_entries} TTL collection. PUBG DTOs are stored
+ * with {@link PubgBinaryCodec}; anything else falls back to JSON with its type
+ * recorded, restricted to the application DTOs and JDK collections. Mongo errors
+ * are logged and treated as misses so a shared tier outage only costs hit rate.
+ */
+@Slf4j
+public class MongoL2CacheStore implements L2CacheStore {
+
+    private final MongoTemplate mongoTemplate;
+    private final PubgBinaryCodec codec;
+    private final ObjectMapper objectMapper;
+
+    public MongoL2CacheStore(MongoTemplate mongoTemplate, PubgBinaryCodec codec) {
+        this.mongoTemplate = mongoTemplate;
+        this.codec = codec;
+        this.objectMapper = JsonMapper.builder()
+            .activateDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                    .allowIfSubType("com.esportsnexus.dto.")
+                    .allowIfSubType("java.util.")
+                    .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY)
+            .build();
+    }
+
+    @Override
+    public Object get(String cacheName, Object key) {
+        try {
+            CacheEntry entry = mongoTemplate.findById(entryId(cacheName, key), CacheEntry.class);
+            // The TTL monitor only runs once a minute, so check expiry ourselves too
+            if (entry == null || entry.getExpiresAt().before(new Date())) {
+                return null;
+            }
+            if (entry.isNullValue()) {
+                return NullValue.INSTANCE;
+            }
+            if (entry.getData() != null) {
+                return codec.decode(entry.getData());
+            }
+            return objectMapper.readValue(entry.getPayload(), Object.class);
+        } catch (Exception e) {
+            log.warn("Error reading {} from shared cache {}: {}", key, cacheName, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value, Duration ttl) {
+        try {
+            CacheEntry entry = new CacheEntry();
+            entry.setId(entryId(cacheName, key));
+            entry.setCacheName(cacheName);
+            if (value == NullValue.INSTANCE) {
+                entry.setNullValue(true);
+            } else if (codec.supports(value)) {
+                entry.setData(codec.encode(value));
+            } else {
+                entry.setPayload(objectMapper.writerFor(Object.class).writeValueAsString(value));
+            }
+            entry.setExpiresAt(new Date(System.currentTimeMillis() + ttl.toMillis()));
+            mongoTemplate.save(entry);
+        } catch (Exception e) {
+            log.warn("Error writing {} to shared cache {}: {}", key, cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        try {
+            mongoTemplate.remove(Query.query(Criteria.where("_id").is(entryId(cacheName, key))), CacheEntry.class);
+        } catch (Exception e) {
+            log.warn("Error evicting {} from shared cache {}: {}", key, cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        try {
+            mongoTemplate.remove(Query.query(Criteria.where("cacheName").is(cacheName)), CacheEntry.class);
+        } catch (Exception e) {
+            log.warn("Error clearing shared cache {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    private static String entryId(String cacheName, Object key) {
+        return cacheName + ":" + key;
+    }
+}
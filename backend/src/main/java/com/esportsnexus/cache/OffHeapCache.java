@@ -0,0 +1,255 @@
+package com.esportsnexus.cache;
+
+import com.esportsnexus.service.pubg.PubgBinaryCodec;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache that keeps {@link PubgBinaryCodec} payloads in direct memory instead of
+ * live objects on the heap. Payloads are written into fixed-size blocks carved
+ * out of direct buffer slabs, and the least recently used entries are dropped
+ * once the byte budget is used up. Values are decoded on every read, so the heap
+ * only holds the key index no matter how much data is cached.
+ */
+public class OffHeapCache extends AbstractValueAdaptingCache {
+
+    private static final int SLAB_SIZE = 64 * 1024 * 1024;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final String name;
+    private final PubgBinaryCodec codec;
+    private final long expireAfterWriteNanos;
+    private final BlockArena arena;
+    // Access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<Object, Slot> index = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hits;
+    private long misses;
+    private long puts;
+    private long evictions;
+
+    public OffHeapCache(String name, PubgBinaryCodec codec, long maxBytes, int blockSize,
+                        Duration expireAfterWrite) {
+        super(true);
+        this.name = name;
+        this.codec = codec;
+        this.expireAfterWriteNanos = expireAfterWrite != null ? expireAfterWrite.toNanos() : Long.MAX_VALUE;
+        this.arena = new BlockArena(maxBytes, blockSize);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        byte[] payload;
+        synchronized (this) {
+            Slot slot = index.get(key);
+            if (slot != null && isExpired(slot)) {
+                remove(key);
+                slot = null;
+            }
+            if (slot == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+            payload = slot.nullValue ? null : arena.read(slot);
+        }
+        return payload == null ? NullValue.INSTANCE : codec.decode(payload);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        boolean nullValue = storeValue == NullValue.INSTANCE;
+        // Encode outside the lock; only the copy into direct memory is serialized
+        byte[] payload = nullValue ? EMPTY : codec.encode(storeValue);
+        int blocks = Math.max(1, arena.blocksFor(payload.length));
+        if (blocks > arena.totalBlocks) {
+            return; // larger than the whole budget, not worth caching
+        }
+
+        synchronized (this) {
+            remove(key);
+            while (arena.available() < blocks) {
+                Iterator<Map.Entry<Object, Slot>> eldest = index.entrySet().iterator();
+                arena.free(eldest.next().getValue());
+                eldest.remove();
+                evictions++;
+            }
+            Slot slot = new Slot(arena.allocate(blocks), payload.length, nullValue, System.nanoTime());
+            arena.write(slot, payload);
+            index.put(key, slot);
+            puts++;
+        }
+    }
+
+    @Override
+    public synchronized void evict(Object key) {
+        remove(key);
+    }
+
+    @Override
+    public synchronized void clear() {
+        index.values().forEach(arena::free);
+        index.clear();
+    }
+
+    public synchronized long size() {
+        return index.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized long getPutCount() {
+        return puts;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    public synchronized long getUsedBytes() {
+        return (long) (arena.totalBlocks - arena.available()) * arena.blockSize;
+    }
+
+    public long getCapacityBytes() {
+        return (long) arena.totalBlocks * arena.blockSize;
+    }
+
+    private void remove(Object key) {
+        Slot slot = index.remove(key);
+        if (slot != null) {
+            arena.free(slot);
+        }
+    }
+
+    private boolean isExpired(Slot slot) {
+        return System.nanoTime() - slot.writtenAt > expireAfterWriteNanos;
+    }
+
+    private record Slot(int[] blocks, int length, boolean nullValue, long writtenAt) {
+    }
+
+    /**
+     * Fixed-size blocks over direct buffer slabs. Slabs are allocated on first use
+     * so an idle cache does not reserve its whole budget. Not thread-safe; guarded
+     * by the owning cache.
+     */
+    private static final class BlockArena {
+        private final int blockSize;
+        private final int blocksPerSlab;
+        private final int totalBlocks;
+        private final ByteBuffer[] slabs;
+        private final int[] freeBlocks;
+        private int freeCount;
+        private int nextUnused;
+
+        BlockArena(long maxBytes, int blockSize) {
+            this.blockSize = blockSize;
+            this.blocksPerSlab = Math.max(1, SLAB_SIZE / blockSize);
+            this.totalBlocks = (int) Math.min(Integer.MAX_VALUE, maxBytes / blockSize);
+            this.slabs = new ByteBuffer[(totalBlocks + blocksPerSlab - 1) / blocksPerSlab];
+            this.freeBlocks = new int[totalBlocks];
+        }
+
+        int blocksFor(int length) {
+            return (length + blockSize - 1) / blockSize;
+        }
+
+        int available() {
+            return freeCount + (totalBlocks - nextUnused);
+        }
+
+        int[] allocate(int count) {
+            int[] blocks = new int[count];
+            for (int i = 0; i < count; i++) {
+                blocks[i] = freeCount > 0 ? freeBlocks[--freeCount] : nextUnused++;
+            }
+            return blocks;
+        }
+
+        void free(Slot slot) {
+            for (int block : slot.blocks()) {
+                freeBlocks[freeCount++] = block;
+            }
+        }
+
+        void write(Slot slot, byte[] payload) {
+            int offset = 0;
+            for (int block : slot.blocks()) {
+                int length = Math.min(blockSize, payload.length - offset);
+                if (length <= 0) {
+                    break;
+                }
+                slab(block).put(position(block), payload, offset, length);
+                offset += length;
+            }
+        }
+
+        byte[] read(Slot slot) {
+            byte[] payload = new byte[slot.length()];
+            int offset = 0;
+            for (int block : slot.blocks()) {
+                int length = Math.min(blockSize, payload.length - offset);
+                if (length <= 0) {
+                    break;
+                }
+                slab(block).get(position(block), payload, offset, length);
+                offset += length;
+            }
+            return payload;
+        }
+
+        private ByteBuffer slab(int block) {
+            int slabIndex = block / blocksPerSlab;
+            if (slabs[slabIndex] == null) {
+                int blocksInSlab = Math.min(blocksPerSlab, totalBlocks - slabIndex * blocksPerSlab);
+                slabs[slabIndex] = ByteBuffer.allocateDirect(blocksInSlab * blockSize);
+            }
+            return slabs[slabIndex];
+        }
+
+        private int position(int block) {
+            return (block % blocksPerSlab) * blockSize;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.esportsnexus.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+/**
+ * Exposes the standard cache.* metrics for an {@link OffHeapCache}, plus
+ * cache.off-heap.bytes{state=used|capacity} for its direct memory budget.
+ */
+public class OffHeapCacheMeterBinderProvider implements CacheMeterBinderProvider<OffHeapCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(OffHeapCache cache, Iterable<Tag> tags) {
+        Tags cacheTags = Tags.concat(tags, "cache", cache.getName());
+        return registry -> {
+            Gauge.builder("cache.size", cache, OffHeapCache::size)
+                .tags(cacheTags)
+                .description("The number of entries in this cache")
+                .register(registry);
+            FunctionCounter.builder("cache.gets", cache, OffHeapCache::getHitCount)
+                .tags(cacheTags).tag("result", "hit")
+                .description("The number of times cache lookup methods have returned a cached value")
+                .register(registry);
+            FunctionCounter.builder("cache.gets", cache, OffHeapCache::getMissCount)
+                .tags(cacheTags).tag("result", "miss")
+                .description("The number of times cache lookup methods have not returned a value")
+                .register(registry);
+            FunctionCounter.builder("cache.puts", cache, OffHeapCache::getPutCount)
+                .tags(cacheTags)
+                .description("The number of entries added to the cache")
+                .register(registry);
+            FunctionCounter.builder("cache.evictions", cache, OffHeapCache::getEvictionCount)
+                .tags(cacheTags)
+                .description("The number of entries evicted to stay within the byte budget")
+                .register(registry);
+            Gauge.builder("cache.off-heap.bytes", cache, OffHeapCache::getUsedBytes)
+                .tags(cacheTags).tag("state", "used")
+                .baseUnit("bytes")
+                .register(registry);
+            Gauge.builder("cache.off-heap.bytes", cache, OffHeapCache::getCapacityBytes)
+                .tags(cacheTags).tag("state", "capacity")
+                .baseUnit("bytes")
+                .register(registry);
+        };
+    }
+}
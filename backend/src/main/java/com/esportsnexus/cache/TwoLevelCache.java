@@ -0,0 +1,146 @@
+package com.esportsnexus.cache;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A small per-node Caffeine cache (L1) in front of a shared {@link L2CacheStore}.
+ * Reads go L1 then L2, and L2 hits are copied into L1. Loader fills
+ * ({@link #get(Object, Callable)}, i.e. {@code @Cacheable(sync = true)}) run under
+ * the L1 entry's lock, so concurrent callers on one node share one L2 lookup and
+ * load, and write both tiers without telling other nodes, since they cannot hold a
+ * newer value. {@link #fill} does the same for values loaded elsewhere. Explicit
+ * puts ({@code @CachePut}) and evictions are also published on the
+ * {@link CacheInvalidationBus} so other nodes drop their stale L1 copy. L1 is keyed
+ * by the key's string form, the same form invalidations carry.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final CaffeineCache local;
+    private final L2CacheStore store;
+    private final Duration ttl;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final AtomicLong sharedHits = new AtomicLong();
+    private final AtomicLong sharedMisses = new AtomicLong();
+
+    public TwoLevelCache(CaffeineCache local, L2CacheStore store, Duration ttl,
+                         CacheInvalidationBus invalidationBus) {
+        super(true);
+        this.local = local;
+        this.store = store;
+        this.ttl = ttl;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    public CaffeineCache getLocalCache() {
+        return local;
+    }
+
+    public long getSharedHits() {
+        return sharedHits.get();
+    }
+
+    public long getSharedMisses() {
+        return sharedMisses.get();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        ValueWrapper cached = local.get(localKey(key));
+        if (cached != null) {
+            return toStoreValue(cached.get());
+        }
+
+        Object shared = store.get(getName(), key);
+        if (shared == null) {
+            sharedMisses.incrementAndGet();
+            return null;
+        }
+        sharedHits.incrementAndGet();
+        local.put(localKey(key), fromStoreValue(shared));
+        return shared;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return local.get(localKey(key), () -> {
+            Object shared = store.get(getName(), key);
+            if (shared != null) {
+                sharedHits.incrementAndGet();
+                return (T) fromStoreValue(shared);
+            }
+            sharedMisses.incrementAndGet();
+            T value = valueLoader.call();
+            // A fill after a miss in both tiers, so there is nothing to invalidate elsewhere
+            store.put(getName(), key, toStoreValue(value), ttl);
+            return value;
+        });
+    }
+
+    /**
+     * Stores a value loaded outside this cache, e.g. found by another lookup, without
+     * publishing an invalidation. Other nodes keep their L1 copy until it expires.
+     * Nothing is written when L1 already holds an equal value.
+     */
+    public void fill(Object key, Object value) {
+        ValueWrapper cached = local.get(localKey(key));
+        if (cached != null && Objects.equals(cached.get(), value)) {
+            return;
+        }
+        local.put(localKey(key), value);
+        store.put(getName(), key, toStoreValue(value), ttl);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(localKey(key), value);
+        store.put(getName(), key, toStoreValue(value), ttl);
+        invalidationBus.publish(getName(), key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(localKey(key));
+        store.evict(getName(), key);
+        invalidationBus.publish(getName(), key);
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        store.clear(getName());
+        invalidationBus.publish(getName(), null);
+    }
+
+    /**
+     * Drops the L1 copy after another node changed the entry
+     */
+    void evictLocal(String key) {
+        if (key == null) {
+            local.clear();
+        } else {
+            local.evict(key);
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,33 @@
+package com.esportsnexus.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+/**
+ * Exposes the usual cache.* metrics for the L1 of a {@link TwoLevelCache}, plus
+ * cache.shared.gets{result=hit|miss} for lookups that fell through to the L2 tier.
+ */
+public class TwoLevelCacheMeterBinderProvider implements CacheMeterBinderProvider<TwoLevelCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(TwoLevelCache cache, Iterable<Tag> tags) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, cache.getLocalCache().getNativeCache(), cache.getName(), tags);
+            FunctionCounter.builder("cache.shared.gets", cache, TwoLevelCache::getSharedHits)
+                .tags(tags)
+                .tag("cache", cache.getName())
+                .tag("result", "hit")
+                .description("Lookups that missed L1 and were served by the shared tier")
+                .register(registry);
+            FunctionCounter.builder("cache.shared.gets", cache, TwoLevelCache::getSharedMisses)
+                .tags(tags)
+                .tag("cache", cache.getName())
+                .tag("result", "miss")
+                .description("Lookups that missed both L1 and the shared tier")
+                .register(registry);
+        };
+    }
+}
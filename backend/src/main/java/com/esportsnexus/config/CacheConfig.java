@@ -1,24 +1,174 @@
 package com.esportsnexus.config;
 
+import com.esportsnexus.cache.CacheInvalidationBus;
+import com.esportsnexus.cache.L2CacheStore;
+import com.esportsnexus.cache.MongoL2CacheStore;
+import com.esportsnexus.cache.OffHeapCache;
+import com.esportsnexus.cache.OffHeapCacheMeterBinderProvider;
+import com.esportsnexus.cache.TwoLevelCache;
+import com.esportsnexus.cache.TwoLevelCacheMeterBinderProvider;
+import com.esportsnexus.dto.pubg.PubgMatchDto;
+import com.esportsnexus.service.PubgApiService;
+import com.esportsnexus.service.pubg.PubgBinaryCodec;
+import com.esportsnexus.service.pubg.PubgRequestPriority;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CachePolicyProperties.class)
 public class CacheConfig {
-    
+
+    public static final String[] CACHE_NAMES = {
+        "pubgPlayers",
+        "pubgPlayer",
+        "pubgSeasonStats",
+        "pubgLifetimeStats",
+        "pubgMatch",
+        "pubgCurrentSeason",
+        "authPrincipals"
+    };
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.l2.enabled", havingValue = "true")
+    public L2CacheStore l2CacheStore(MongoTemplate mongoTemplate) {
+        return new MongoL2CacheStore(mongoTemplate, new PubgBinaryCodec());
+    }
+
+    /**
+     * Always present: node-local caches such as authPrincipals use it for cross-node
+     * evictions even when the shared tier is off
+     */
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(MongoTemplate mongoTemplate, CachePolicyProperties properties) {
+        return new CacheInvalidationBus(mongoTemplate, properties.getL2().getInvalidationWindow());
+    }
+
+    @Bean
+    public TwoLevelCacheMeterBinderProvider twoLevelCacheMeterBinderProvider() {
+        return new TwoLevelCacheMeterBinderProvider();
+    }
+
+    @Bean
+    public OffHeapCacheMeterBinderProvider offHeapCacheMeterBinderProvider() {
+        return new OffHeapCacheMeterBinderProvider();
+    }
+
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
-            "pubgPlayers",
-            "pubgPlayer", 
-            "pubgSeasonStats",
-            "pubgLifetimeStats",
-            "pubgMatch",
-            "pubgCurrentSeason"
-        );
-    }
-}
\ No newline at end of file
+    public CacheManager cacheManager(CachePolicyProperties properties,
+                                     ObjectProvider<PubgApiService> pubgApiService,
+                                     ObjectProvider<L2CacheStore> l2CacheStore,
+                                     ObjectProvider<CacheInvalidationBus> invalidationBus) {
+        // Loaders used for refresh-ahead; they must bypass the caching proxy
+        Map<String, CacheLoader<Object, Object>> refreshLoaders = new HashMap<>();
+        refreshLoaders.put("pubgCurrentSeason", new CacheLoader<>() {
+            @Override
+            public Object load(Object key) {
+                return pubgApiService.getObject().fetchCurrentSeasonId();
+            }
+
+            @Override
+            public Object reload(Object key, Object oldValue) {
+                return PubgRequestPriority.runAs(PubgRequestPriority.BACKGROUND, () -> load(key));
+            }
+        });
+
+        CachePolicyProperties.SharedTier l2 = properties.getL2();
+        L2CacheStore store = l2.isEnabled() ? l2CacheStore.getIfAvailable() : null;
+        CacheInvalidationBus bus = invalidationBus.getIfAvailable();
+        CachePolicyProperties.OffHeap offHeap = properties.getOffHeap();
+
+        List<Cache> caches = new ArrayList<>();
+        for (String name : CACHE_NAMES) {
+            CachePolicyProperties.Policy policy = properties.policyFor(name);
+            if (offHeap.isEnabled() && offHeap.getCaches().contains(name)) {
+                caches.add(new OffHeapCache(name, new PubgBinaryCodec(), offHeap.getMaxSize().toBytes(),
+                    (int) offHeap.getBlockSize().toBytes(), policy.getExpireAfterWrite()));
+            } else if (store != null && bus != null && l2.getCaches().contains(name)) {
+                CaffeineCache local = buildCache(name, localPolicy(policy, l2), refreshLoaders.get(name));
+                TwoLevelCache cache = new TwoLevelCache(local, store, policy.getExpireAfterWrite(), bus);
+                bus.register(cache);
+                caches.add(cache);
+            } else {
+                CaffeineCache cache = buildCache(name, policy, refreshLoaders.get(name));
+                if (bus != null) {
+                    bus.registerLocal(cache);
+                }
+                caches.add(cache);
+            }
+        }
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
+
+    private CaffeineCache buildCache(String name, CachePolicyProperties.Policy policy,
+                                     CacheLoader<Object, Object> refreshLoader) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+
+        if (policy.getMaximumWeight() != null) {
+            builder = builder.maximumWeight(policy.getMaximumWeight()).weigher(CacheConfig::weigh);
+        } else {
+            builder.maximumSize(policy.getMaximumSize());
+        }
+
+        if (policy.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(policy.getExpireAfterWrite());
+        }
+
+        if (refreshLoader != null && policy.getRefreshAfterWrite() != null) {
+            builder.refreshAfterWrite(policy.getRefreshAfterWrite());
+            return new CaffeineCache(name, builder.build(refreshLoader));
+        }
+
+        return new CaffeineCache(name, builder.build());
+    }
+
+    /**
+     * L1 policy for a cache backed by the shared tier: the cache's own policy, capped
+     * at the configured local size and lifetime
+     */
+    private static CachePolicyProperties.Policy localPolicy(CachePolicyProperties.Policy policy,
+                                                            CachePolicyProperties.SharedTier l2) {
+        CachePolicyProperties.Policy local = new CachePolicyProperties.Policy();
+        local.setMaximumWeight(policy.getMaximumWeight());
+        local.setMaximumSize(Math.min(policy.getMaximumSize(), l2.getLocalMaximumSize()));
+        Duration expiry = policy.getExpireAfterWrite();
+        local.setExpireAfterWrite(expiry == null || expiry.compareTo(l2.getLocalExpireAfterWrite()) > 0
+            ? l2.getLocalExpireAfterWrite() : expiry);
+        local.setRefreshAfterWrite(policy.getRefreshAfterWrite());
+        return local;
+    }
+
+    /**
+     * Rough entry weight: a match weighs one unit per participant, lists one unit per element
+     */
+    private static int weigh(Object key, Object value) {
+        if (value instanceof PubgMatchDto match && match.getParticipants() != null) {
+            return 1 + match.getParticipants().size();
+        }
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,64 @@
+package com.esportsnexus.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-cache eviction policies, bound from {@code app.cache.specs[<cacheName>].*}.
+ * Caches without an explicit spec fall back to {@link #defaults}. The shared L2
+ * tier is configured under {@code app.cache.l2.*} and direct memory storage under
+ * {@code app.cache.off-heap.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CachePolicyProperties {
+
+    private Policy defaults = new Policy();
+    private Map<String, Policy> specs = new LinkedHashMap<>();
+    private SharedTier l2 = new SharedTier();
+    private OffHeap offHeap = new OffHeap();
+
+    public Policy policyFor(String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+
+    @Data
+    public static class Policy {
+        // Entry cap; ignored when maximumWeight is set
+        private long maximumSize = 1000;
+        // Weight cap, see CacheConfig#weigh for how entries are weighed
+        private Long maximumWeight;
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+        // Only honoured for caches that have a refresh loader registered
+        private Duration refreshAfterWrite;
+    }
+
+    @Data
+    public static class SharedTier {
+        private boolean enabled = false;
+        // Caches backed by the shared tier; entries there live for the cache's expireAfterWrite
+        private List<String> caches = new ArrayList<>();
+        // L1 limits for shared caches, kept small so nodes rarely serve stale data
+        private long localMaximumSize = 500;
+        private Duration localExpireAfterWrite = Duration.ofMinutes(1);
+        // How far back each invalidation poll looks; must exceed the poll interval plus clock skew
+        private Duration invalidationWindow = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class OffHeap {
+        private boolean enabled = false;
+        // Caches kept in direct memory; their values must be supported by PubgBinaryCodec
+        private List<String> caches = new ArrayList<>();
+        // Byte budget per cache; -XX:MaxDirectMemorySize must leave room for it
+        private DataSize maxSize = DataSize.ofMegabytes(256);
+        private DataSize blockSize = DataSize.ofKilobytes(4);
+    }
+}
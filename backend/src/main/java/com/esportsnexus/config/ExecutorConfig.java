@@ -0,0 +1,31 @@
+package com.esportsnexus.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${pubg.api.parallelism:16}")
+    private int parallelism;
+
+    @Value("${pubg.api.queue-capacity:500}")
+    private int queueCapacity;
+
+    /**
+     * Bounded pool for concurrent PUBG API lookups. The pool size caps how many
+     * upstream calls are in flight at once across all requests.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor pubgExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("pubg-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
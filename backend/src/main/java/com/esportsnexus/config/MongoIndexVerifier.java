@@ -0,0 +1,152 @@
+package com.esportsnexus.config;
+
+import com.esportsnexus.model.MatchResult;
+import com.esportsnexus.model.Tournament;
+import com.esportsnexus.model.Tournament.TournamentStatus;
+import com.esportsnexus.model.TournamentRegistration;
+import com.mongodb.ExplainVerbosity;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Explains the query shape of every tournament, registration and match result
+ * query path at startup and reports the ones whose winning plan is a collection
+ * scan. With app.mongo.index-verification=fail startup is aborted instead; off
+ * skips the check.
+ */
+@Slf4j
+@Component
+public class MongoIndexVerifier {
+
+    private final MongoTemplate mongoTemplate;
+    private final String mode;
+
+    public MongoIndexVerifier(MongoTemplate mongoTemplate,
+                              @Value("${app.mongo.index-verification:warn}") String mode) {
+        this.mongoTemplate = mongoTemplate;
+        this.mode = mode;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        if ("off".equalsIgnoreCase(mode)) {
+            return;
+        }
+
+        List<String> unindexed = new ArrayList<>();
+        verify(Tournament.class, tournamentQueries(), unindexed);
+        verify(TournamentRegistration.class, registrationQueries(), unindexed);
+        verify(MatchResult.class, Map.of("findByTournamentId",
+            Query.query(Criteria.where("tournamentId").is("tournament"))), unindexed);
+
+        if (unindexed.isEmpty()) {
+            log.info("All tournament queries are served by indexes");
+            return;
+        }
+        String message = "Queries without a usable index: " + String.join(", ", unindexed);
+        if ("fail".equalsIgnoreCase(mode)) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    private void verify(Class<?> entityClass, Map<String, Query> queries, List<String> unindexed) {
+        queries.forEach((name, query) -> {
+            try {
+                if (isCollectionScan(explain(entityClass, query))) {
+                    unindexed.add(entityClass.getSimpleName() + "." + name);
+                }
+            } catch (Exception e) {
+                log.warn("Could not explain query {}: {}", name, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * One representative query per TournamentRepository path. The values only need
+     * the right types; the planner decides on the shape of the query.
+     */
+    private static Map<String, Query> tournamentQueries() {
+        LocalDateTime now = LocalDateTime.now();
+        Sort byStartDate = Sort.by(Sort.Direction.DESC, "startDate", "id");
+        Map<String, Query> queries = new LinkedHashMap<>();
+        queries.put("findSummaries", new Query().with(byStartDate));
+        queries.put("findSummaries(createdAt)", new Query().with(Sort.by(Sort.Direction.DESC, "createdAt", "id")));
+        queries.put("findSummaries(game)",
+            Query.query(Criteria.where("game").is("bgmi")).with(byStartDate));
+        queries.put("findSummaries(status)",
+            Query.query(Criteria.where("status").is(TournamentStatus.ONGOING)).with(byStartDate));
+        queries.put("findSummaries(game, status)",
+            Query.query(Criteria.where("game").is("bgmi").and("status").is(TournamentStatus.ONGOING)).with(byStartDate));
+        queries.put("findByStatus",
+            Query.query(Criteria.where("status").is(TournamentStatus.ONGOING)));
+        queries.put("findByGame",
+            Query.query(Criteria.where("game").is("bgmi")));
+        queries.put("findByGameAndStatus",
+            Query.query(Criteria.where("game").is("bgmi").and("status").is(TournamentStatus.ONGOING)));
+        queries.put("findByOrganizerIdOrderByCreatedAtDesc",
+            Query.query(Criteria.where("organizerId").is("organizer"))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt")));
+        queries.put("findByStatusInAndStartDateBetweenOrderByStartDateAsc",
+            Query.query(Criteria.where("status").in(Tournament.ACTIVE_STATUSES)
+                    .and("startDate").gt(now).lt(now.plusMonths(1)))
+                .with(Sort.by(Sort.Direction.ASC, "startDate")));
+        return queries;
+    }
+
+    private static Map<String, Query> registrationQueries() {
+        Map<String, Query> queries = new LinkedHashMap<>();
+        queries.put("findByTournamentIdAndIdGreaterThanOrderByIdAsc",
+            Query.query(Criteria.where("tournamentId").is("tournament").and("id").gt("000000000000000000000000"))
+                .with(Sort.by(Sort.Direction.ASC, "id")));
+        queries.put("findByTeamId",
+            Query.query(Criteria.where("teamId").is("team")));
+        queries.put("registerTeams",
+            Query.query(Criteria.where("tournamentId").is("tournament").and("teamId").in(List.of("team"))));
+        return queries;
+    }
+
+    private Document explain(Class<?> entityClass, Query query) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+            .getRequiredPersistentEntity(entityClass);
+        QueryMapper mapper = new QueryMapper(mongoTemplate.getConverter());
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass))
+            .find(mapper.getMappedObject(query.getQueryObject(), entity))
+            .sort(mapper.getMappedSort(query.getSortObject(), entity))
+            .explain(ExplainVerbosity.QUERY_PLANNER);
+    }
+
+    private static boolean isCollectionScan(Document explain) {
+        Object queryPlanner = explain.get("queryPlanner");
+        return queryPlanner instanceof Document planner && containsStage(planner.get("winningPlan"), "COLLSCAN");
+    }
+
+    private static boolean containsStage(Object plan, String stage) {
+        if (plan instanceof Document document) {
+            if (stage.equals(document.get("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (plan instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+}
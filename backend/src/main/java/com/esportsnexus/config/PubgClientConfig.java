@@ -0,0 +1,94 @@
+package com.esportsnexus.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.function.ToIntFunction;
+
+@Configuration
+public class PubgClientConfig {
+
+    @Value("${pubg.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${pubg.http.max-connections-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${pubg.http.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${pubg.http.read-timeout-ms:5000}")
+    private long readTimeoutMs;
+
+    @Value("${pubg.http.pool-timeout-ms:1000}")
+    private long poolTimeoutMs;
+
+    @Value("${pubg.http.connection-ttl-ms:300000}")
+    private long connectionTtlMs;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager pubgConnectionManager(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setTimeToLive(TimeValue.ofMilliseconds(connectionTtlMs))
+                .build())
+            .build();
+
+        registerPoolGauge(meterRegistry, connectionManager, "leased", PoolStats::getLeased);
+        registerPoolGauge(meterRegistry, connectionManager, "available", PoolStats::getAvailable);
+        registerPoolGauge(meterRegistry, connectionManager, "pending", PoolStats::getPending);
+        registerPoolGauge(meterRegistry, connectionManager, "max", PoolStats::getMax);
+        return connectionManager;
+    }
+
+    /**
+     * RestTemplate for the PUBG API on a pooled keep-alive client. Built through
+     * RestTemplateBuilder so requests are recorded as http.client.requests, tagged
+     * with the URI template of each PUBG endpoint. Responses are gzip-decoded by the
+     * client, which sends Accept-Encoding by default.
+     */
+    @Bean
+    public RestTemplate pubgRestTemplate(RestTemplateBuilder builder,
+                                         PoolingHttpClientConnectionManager pubgConnectionManager) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+            .setConnectionManager(pubgConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .build())
+            .evictIdleConnections(TimeValue.ofSeconds(30))
+            .build();
+
+        return builder
+            .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+            .build();
+    }
+
+    private void registerPoolGauge(MeterRegistry meterRegistry, PoolingHttpClientConnectionManager connectionManager,
+                                   String state, ToIntFunction<PoolStats> stat) {
+        Gauge.builder("pubg.http.pool.connections", connectionManager,
+                manager -> stat.applyAsInt(manager.getTotalStats()))
+            .description("Connections in the PUBG API HTTP pool")
+            .tag("state", state)
+            .register(meterRegistry);
+    }
+}
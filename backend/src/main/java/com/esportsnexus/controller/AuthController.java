@@ -5,6 +5,7 @@ import com.esportsnexus.model.User;
 import com.esportsnexus.repository.UserRepository;
 import com.esportsnexus.security.JwtUtils;
 import com.esportsnexus.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -85,7 +86,7 @@ public class AuthController {
         User result = userRepository.save(user);
         
         // Generate JWT token for auto-login
-        String jwt = jwtUtils.generateJwtToken(result.getId());
+        String jwt = jwtUtils.generateJwtToken(UserPrincipal.create(result));
         
         return ResponseEntity.status(HttpStatus.CREATED)
             .body(new JwtAuthenticationResponse(
@@ -100,9 +101,9 @@ public class AuthController {
     public ResponseEntity<?> validateToken(@RequestHeader("Authorization") String token) {
         if (token != null && token.startsWith("Bearer ")) {
             String jwt = token.substring(7);
-            if (jwtUtils.validateJwtToken(jwt)) {
-                String userId = jwtUtils.getUserIdFromJwtToken(jwt);
-                return ResponseEntity.ok(new ApiResponse(true, "Token is valid", userId));
+            Claims claims = jwtUtils.parseAndValidate(jwt);
+            if (claims != null) {
+                return ResponseEntity.ok(new ApiResponse(true, "Token is valid", claims.getSubject()));
             }
         }
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -2,13 +2,17 @@ package com.esportsnexus.controller;
 
 import com.esportsnexus.dto.ApiResponse;
 import com.esportsnexus.dto.pubg.*;
+import com.esportsnexus.exception.PubgRateLimitException;
 import com.esportsnexus.model.User;
 import com.esportsnexus.repository.UserRepository;
 import com.esportsnexus.security.CurrentUser;
 import com.esportsnexus.security.UserPrincipal;
+import com.esportsnexus.service.BgmiStatsRefreshService;
+import com.esportsnexus.service.PubgAggregationService;
 import com.esportsnexus.service.PubgApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +26,8 @@ import java.util.*;
 public class GameStatsController {
     
     private final PubgApiService pubgApiService;
+    private final PubgAggregationService pubgAggregationService;
+    private final BgmiStatsRefreshService bgmiStatsRefreshService;
     private final UserRepository userRepository;
     
     /**
@@ -39,6 +45,9 @@ public class GameStatsController {
             }
             
             return ResponseEntity.ok(new ApiResponse(true, "Players found", players));
+        } catch (PubgRateLimitException e) {
+            // Answered with 503 and Retry-After by GlobalExceptionHandler
+            throw e;
         } catch (Exception e) {
             log.error("Error searching BGMI players: {}", e.getMessage());
             return ResponseEntity.badRequest()
@@ -52,29 +61,27 @@ public class GameStatsController {
     @GetMapping("/bgmi/player/{playerId}")
     public ResponseEntity<?> getBgmiPlayerStats(@PathVariable String playerId) {
         try {
-            // Get player info
-            PubgPlayerDto player = pubgApiService.getPlayer(playerId);
-            if (player == null) {
+            // Player, lifetime and season stats are fetched concurrently
+            PubgPlayerProfileDto profile = pubgAggregationService.getPlayerProfile(playerId, true);
+            if (profile.getPlayer() == null) {
+                if (profile.isPartial()) {
+                    // The lookup timed out or failed, which says nothing about whether the player exists
+                    return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                        .body(new ApiResponse(false, "PUBG API did not respond in time, please try again"));
+                }
                 return ResponseEntity.notFound().build();
             }
             
-            // Get lifetime stats
-            PubgLifetimeStatsDto lifetimeStats = pubgApiService.getPlayerLifetimeStats(playerId);
-            
-            // Get current season stats
-            String currentSeasonId = pubgApiService.getCurrentSeasonId();
-            PubgSeasonStatsDto seasonStats = null;
-            if (currentSeasonId != null) {
-                seasonStats = pubgApiService.getPlayerSeasonStats(playerId, currentSeasonId);
-            }
-            
             Map<String, Object> response = new HashMap<>();
-            response.put("player", player);
-            response.put("lifetimeStats", lifetimeStats);
-            response.put("currentSeasonStats", seasonStats);
-            response.put("currentSeasonId", currentSeasonId);
+            response.put("player", profile.getPlayer());
+            response.put("lifetimeStats", profile.getLifetimeStats());
+            response.put("currentSeasonStats", profile.getCurrentSeasonStats());
+            response.put("currentSeasonId", profile.getCurrentSeasonId());
             
             return ResponseEntity.ok(new ApiResponse(true, "Player stats retrieved", response));
+        } catch (PubgRateLimitException e) {
+            // Answered with 503 and Retry-After by GlobalExceptionHandler
+            throw e;
         } catch (Exception e) {
             log.error("Error getting BGMI player stats: {}", e.getMessage());
             return ResponseEntity.badRequest()
@@ -109,29 +116,28 @@ public class GameStatsController {
             
             PubgPlayerDto bgmiPlayer = players.get(0);
             
-            // Update user's gaming IDs
-            User user = userRepository.findById(currentUser.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-            
-            if (user.getGamingIds() == null) {
-                user.setGamingIds(new HashMap<>());
-            }
-            user.getGamingIds().put("bgmi", bgmiPlayer.getId());
-            user.getGamingIds().put("bgmiName", bgmiPlayer.getName());
-            
-            // Fetch and store stats
-            PubgLifetimeStatsDto lifetimeStats = pubgApiService.getPlayerLifetimeStats(bgmiPlayer.getId());
-            if (lifetimeStats != null) {
-                User.GameStats gameStats = pubgApiService.convertToGameStats(lifetimeStats, "squad-fpp");
-                if (user.getGameStats() == null) {
-                    user.setGameStats(new HashMap<>());
+            // Fetch stats to store alongside the link; if that fails the link is still
+            // saved and the background refresher fills the stats in later
+            User.GameStats gameStats = null;
+            try {
+                PubgLifetimeStatsDto lifetimeStats = pubgApiService.getPlayerLifetimeStats(bgmiPlayer.getId());
+                if (lifetimeStats != null) {
+                    gameStats = pubgApiService.convertToGameStats(lifetimeStats, "squad-fpp");
                 }
-                user.getGameStats().put("bgmi", gameStats);
+            } catch (RuntimeException e) {
+                log.warn("Linking BGMI account without stats: {}", e.getMessage());
             }
             
-            userRepository.save(user);
+            // Single atomic $set of the link and its stats, the rest of the user is untouched
+            if (!userRepository.linkGamingAccount(currentUser.getId(), "bgmi",
+                    bgmiPlayer.getId(), bgmiPlayer.getName(), gameStats)) {
+                throw new RuntimeException("User not found");
+            }
             
             return ResponseEntity.ok(new ApiResponse(true, "BGMI account linked successfully", bgmiPlayer));
+        } catch (PubgRateLimitException e) {
+            // Answered with 503 and Retry-After by GlobalExceptionHandler
+            throw e;
         } catch (Exception e) {
             log.error("Error linking BGMI account: {}", e.getMessage());
             return ResponseEntity.badRequest()
@@ -146,8 +152,11 @@ public class GameStatsController {
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<?> getMyBgmiStats(@CurrentUser UserPrincipal currentUser) {
         try {
-            User user = userRepository.findById(currentUser.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+            // Only the BGMI link and summary are loaded, not the whole user
+            User user = userRepository.findGamingProfile(currentUser.getId(), "bgmi");
+            if (user == null) {
+                throw new RuntimeException("User not found");
+            }
             
             if (user.getGamingIds() == null || !user.getGamingIds().containsKey("bgmi")) {
                 return ResponseEntity.ok(new ApiResponse(false, "BGMI account not linked"));
@@ -155,29 +164,20 @@ public class GameStatsController {
             
             String bgmiPlayerId = user.getGamingIds().get("bgmi");
             
-            // Get fresh stats
-            PubgLifetimeStatsDto lifetimeStats = pubgApiService.getPlayerLifetimeStats(bgmiPlayerId);
-            String currentSeasonId = pubgApiService.getCurrentSeasonId();
-            PubgSeasonStatsDto seasonStats = null;
-            if (currentSeasonId != null) {
-                seasonStats = pubgApiService.getPlayerSeasonStats(bgmiPlayerId, currentSeasonId);
-            }
-            
-            // Update stored stats
-            if (lifetimeStats != null) {
-                User.GameStats gameStats = pubgApiService.convertToGameStats(lifetimeStats, "squad-fpp");
-                user.getGameStats().put("bgmi", gameStats);
-                userRepository.save(user);
-            }
+            // Served from stats kept warm by the background refresher, no PUBG API calls here
+            PubgPlayerProfileDto profile = bgmiStatsRefreshService.getCachedProfile(user.getId(), bgmiPlayerId);
             
             Map<String, Object> response = new HashMap<>();
             response.put("playerId", bgmiPlayerId);
             response.put("playerName", user.getGamingIds().get("bgmiName"));
-            response.put("lifetimeStats", lifetimeStats);
-            response.put("currentSeasonStats", seasonStats);
-            response.put("gameStats", user.getGameStats().get("bgmi"));
+            response.put("lifetimeStats", profile.getLifetimeStats());
+            response.put("currentSeasonStats", profile.getCurrentSeasonStats());
+            response.put("gameStats", user.getGameStats() != null ? user.getGameStats().get("bgmi") : null);
             
             return ResponseEntity.ok(new ApiResponse(true, "Stats retrieved", response));
+        } catch (PubgRateLimitException e) {
+            // Answered with 503 and Retry-After by GlobalExceptionHandler
+            throw e;
         } catch (Exception e) {
             log.error("Error getting user's BGMI stats: {}", e.getMessage());
             return ResponseEntity.badRequest()
@@ -197,6 +197,9 @@ public class GameStatsController {
             }
             
             return ResponseEntity.ok(new ApiResponse(true, "Match retrieved", match));
+        } catch (PubgRateLimitException e) {
+            // Answered with 503 and Retry-After by GlobalExceptionHandler
+            throw e;
         } catch (Exception e) {
             log.error("Error getting BGMI match: {}", e.getMessage());
             return ResponseEntity.badRequest()
@@ -222,17 +225,14 @@ public class GameStatsController {
                 return ResponseEntity.ok(new ApiResponse(true, "No matches found", Collections.emptyList()));
             }
             
-            // Get recent matches (limited)
-            List<PubgMatchDto> matches = new ArrayList<>();
-            int count = Math.min(limit, matchIds.size());
-            for (int i = 0; i < count; i++) {
-                PubgMatchDto match = pubgApiService.getMatch(matchIds.get(i));
-                if (match != null) {
-                    matches.add(match);
-                }
-            }
+            // Get recent matches (limited), fetched concurrently
+            int count = Math.max(0, Math.min(limit, matchIds.size()));
+            List<PubgMatchDto> matches = pubgAggregationService.getMatches(matchIds.subList(0, count));
             
             return ResponseEntity.ok(new ApiResponse(true, "Matches retrieved", matches));
+        } catch (PubgRateLimitException e) {
+            // Answered with 503 and Retry-After by GlobalExceptionHandler
+            throw e;
         } catch (Exception e) {
             log.error("Error getting player matches: {}", e.getMessage());
             return ResponseEntity.badRequest()
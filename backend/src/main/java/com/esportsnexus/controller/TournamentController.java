@@ -1,11 +1,24 @@
 package com.esportsnexus.controller;
 
 import com.esportsnexus.dto.ApiResponse;
+import com.esportsnexus.dto.CursorPage;
+import com.esportsnexus.dto.TeamStanding;
+import com.esportsnexus.dto.TournamentSummary;
+import com.esportsnexus.model.MatchResult;
 import com.esportsnexus.model.Tournament;
 import com.esportsnexus.model.Tournament.TournamentStatus;
+import com.esportsnexus.model.TournamentRegistration;
+import com.esportsnexus.repository.TournamentRegistrationRepository;
 import com.esportsnexus.repository.TournamentRepository;
+import com.esportsnexus.repository.TournamentRepositoryCustom;
+import com.esportsnexus.repository.TournamentRepositoryCustom.RegistrationOutcome;
 import com.esportsnexus.security.UserPrincipal;
+import com.esportsnexus.service.StandingsService;
+import com.esportsnexus.service.TournamentRegistrationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -19,26 +32,53 @@ import java.util.List;
 @RequestMapping("/tournaments")
 public class TournamentController {
     
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 100;
+    
     @Autowired
     private TournamentRepository tournamentRepository;
     
+    @Autowired
+    private TournamentRegistrationRepository tournamentRegistrationRepository;
+    
+    @Autowired
+    private TournamentRegistrationService tournamentRegistrationService;
+    
+    @Autowired
+    private StandingsService standingsService;
+    
+    /**
+     * Tournament summaries, one keyset page at a time. The body stays a plain list;
+     * when more results follow, the X-Next-Cursor header carries the cursor for the
+     * next request.
+     */
     @GetMapping
-    public ResponseEntity<List<Tournament>> getAllTournaments(
+    public ResponseEntity<?> getAllTournaments(
             @RequestParam(required = false) String game,
-            @RequestParam(required = false) TournamentStatus status) {
+            @RequestParam(required = false) TournamentStatus status,
+            @RequestParam(defaultValue = "startDate") String sort,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
         
-        List<Tournament> tournaments;
-        if (game != null && status != null) {
-            tournaments = tournamentRepository.findByGameAndStatus(game, status);
-        } else if (game != null) {
-            tournaments = tournamentRepository.findByGame(game);
-        } else if (status != null) {
-            tournaments = tournamentRepository.findByStatus(status);
-        } else {
-            tournaments = tournamentRepository.findAll();
+        CursorPage<TournamentSummary> page;
+        try {
+            page = tournamentRepository.findSummaries(
+                    game,
+                    status,
+                    TournamentRepositoryCustom.SortField.fromProperty(sort),
+                    Sort.Direction.fromString(direction),
+                    cursor,
+                    Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
         }
         
-        return ResponseEntity.ok(tournaments);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
     
     @GetMapping("/{id}")
@@ -56,6 +96,8 @@ public class TournamentController {
         
         tournament.setOrganizerId(currentUser.getId());
         tournament.setStatus(TournamentStatus.UPCOMING);
+        tournament.setRegisteredTeamCount(0);
+        tournament.setResultVersion(0);
         
         Tournament savedTournament = tournamentRepository.save(tournament);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedTournament);
@@ -75,15 +117,17 @@ public class TournamentController {
                                 .body(new ApiResponse(false, "You don't have permission to update this tournament"));
                     }
                     
-                    // Update fields
-                    tournament.setName(tournamentUpdate.getName());
-                    tournament.setDescription(tournamentUpdate.getDescription());
-                    tournament.setRules(tournamentUpdate.getRules());
-                    tournament.setMaxTeams(tournamentUpdate.getMaxTeams());
-                    tournament.setPrizePool(tournamentUpdate.getPrizePool());
-                    
-                    Tournament updated = tournamentRepository.save(tournament);
-                    return ResponseEntity.ok(updated);
+                    // Targeted update, so registrations committed meanwhile keep their count;
+                    // the response is the document as stored after the update
+                    Tournament updated;
+                    try {
+                        updated = tournamentRepository.updateDetails(id, tournamentUpdate.getName(),
+                                tournamentUpdate.getDescription(), tournamentUpdate.getRules(),
+                                tournamentUpdate.getMaxTeams(), tournamentUpdate.getPrizePool());
+                    } catch (IllegalArgumentException e) {
+                        return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+                    }
+                    return updated != null ? ResponseEntity.ok(updated) : ResponseEntity.notFound().build();
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -95,44 +139,97 @@ public class TournamentController {
             @RequestParam String teamId,
             @AuthenticationPrincipal UserPrincipal currentUser) {
         
+        RegistrationOutcome outcome = tournamentRegistrationService.register(id, teamId);
+        return switch (outcome) {
+            case REGISTERED -> ResponseEntity.ok(new ApiResponse(true, "Successfully registered for tournament"));
+            case CLOSED -> ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Registration is not open for this tournament"));
+            case FULL -> ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Tournament is full"));
+            case DUPLICATE -> ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Team is already registered"));
+            case NOT_FOUND -> ResponseEntity.notFound().build();
+            case BUSY -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new ApiResponse(false, "Registration is busy, please try again"));
+        };
+    }
+    
+    /**
+     * Registered teams in registration order, one keyset page at a time; the
+     * X-Next-Cursor header carries the cursor for the next page
+     */
+    @GetMapping("/{id}/teams")
+    public ResponseEntity<List<TournamentRegistration>> getRegisteredTeams(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<TournamentRegistration> registrations = cursor == null
+                ? tournamentRegistrationRepository.findByTournamentIdOrderByIdAsc(id, page)
+                : tournamentRegistrationRepository.findByTournamentIdAndIdGreaterThanOrderByIdAsc(id, cursor, page);
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (registrations.size() > limit) {
+            registrations = registrations.subList(0, limit);
+            response.header(NEXT_CURSOR_HEADER, registrations.get(limit - 1).getId());
+        }
+        return response.body(registrations);
+    }
+    
+    @PostMapping("/{id}/results")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<?> recordMatchResult(
+            @PathVariable String id,
+            @RequestBody MatchResult result,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        
         return tournamentRepository.findById(id)
                 .map(tournament -> {
-                    if (tournament.getStatus() != TournamentStatus.REGISTRATION_OPEN) {
-                        return ResponseEntity.badRequest()
-                                .body(new ApiResponse(false, "Registration is not open for this tournament"));
+                    if (!tournament.getOrganizerId().equals(currentUser.getId())) {
+                        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                                .body(new ApiResponse(false, "You don't have permission to report results for this tournament"));
                     }
-                    
-                    if (tournament.getRegisteredTeamIds().size() >= tournament.getMaxTeams()) {
-                        return ResponseEntity.badRequest()
-                                .body(new ApiResponse(false, "Tournament is full"));
+                    try {
+                        standingsService.recordResult(id, result);
+                    } catch (IllegalArgumentException e) {
+                        return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
                     }
-                    
-                    if (tournament.getRegisteredTeamIds().contains(teamId)) {
-                        return ResponseEntity.badRequest()
-                                .body(new ApiResponse(false, "Team is already registered"));
-                    }
-                    
-                    tournament.getRegisteredTeamIds().add(teamId);
-                    Tournament updated = tournamentRepository.save(tournament);
-                    
-                    return ResponseEntity.ok(new ApiResponse(true, "Successfully registered for tournament"));
+                    return ResponseEntity.ok(new ApiResponse(true, "Match result recorded"));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/{id}/standings")
+    public ResponseEntity<List<TeamStanding>> getStandings(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<TeamStanding> standings = standingsService.getTopStandings(id, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        return standings != null ? ResponseEntity.ok(standings) : ResponseEntity.notFound().build();
+    }
+    
+    @GetMapping("/{id}/standings/{teamId}")
+    public ResponseEntity<?> getTeamStanding(@PathVariable String id, @PathVariable String teamId) {
+        TeamStanding standing = standingsService.getStanding(id, teamId);
+        return standing != null ? ResponseEntity.ok(standing) : ResponseEntity.notFound().build();
+    }
+    
     @GetMapping("/upcoming")
     public ResponseEntity<List<Tournament>> getUpcomingTournaments() {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime oneMonthLater = now.plusMonths(1);
         
-        List<Tournament> tournaments = tournamentRepository.findByStartDateBetween(now, oneMonthLater);
+        List<Tournament> tournaments = tournamentRepository.findByStatusInAndStartDateBetweenOrderByStartDateAsc(
+                Tournament.ACTIVE_STATUSES, now, oneMonthLater);
         return ResponseEntity.ok(tournaments);
     }
     
     @GetMapping("/my-tournaments")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<List<Tournament>> getMyTournaments(@AuthenticationPrincipal UserPrincipal currentUser) {
-        List<Tournament> tournaments = tournamentRepository.findByOrganizerId(currentUser.getId());
+        List<Tournament> tournaments = tournamentRepository.findByOrganizerIdOrderByCreatedAtDesc(currentUser.getId());
         return ResponseEntity.ok(tournaments);
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.esportsnexus.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TeamStanding {
+    private int rank;
+    private String teamId;
+    private int points;
+    private int placementPoints;
+    private int killPoints;
+    private int kills;
+    private int wins;
+    private int matchesPlayed;
+}
@@ -0,0 +1,32 @@
+package com.esportsnexus.dto;
+
+import com.esportsnexus.model.Tournament;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * List view of a Tournament. Only these properties are read from Mongo, so rounds,
+ * rules and teamRankings never leave the database for listings.
+ */
+@Data
+public class TournamentSummary {
+    private String id;
+    private String name;
+    private String description;
+    private String game;
+    private String organizerId;
+    private String bannerImage;
+    private Tournament.TournamentType type;
+    private Tournament.TournamentStatus status;
+    private int maxTeams;
+    private int teamSize;
+    private int registeredTeamCount;
+    private LocalDateTime registrationStartDate;
+    private LocalDateTime registrationEndDate;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private String format;
+    private Tournament.PrizePool prizePool;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,54 @@
+package com.esportsnexus.dto.pubg;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+/**
+ * Stats for one game mode (e.g. "squad-fpp"), with the same field names as the
+ * PUBG gameModeStats object but held in primitives instead of a boxed map.
+ */
+@Data
+public class PubgGameModeStatsDto {
+    private int assists;
+    private int boosts;
+    @JsonProperty("dBNOs")
+    private int dBNOs;
+    private int dailyKills;
+    private int dailyWins;
+    private double damageDealt;
+    private int days;
+    private int headshotKills;
+    private int heals;
+    private double killPoints;
+    private int kills;
+    private double longestKill;
+    private double longestTimeSurvived;
+    private int losses;
+    private int maxKillStreaks;
+    private double mostSurvivalTime;
+    private double rankPoints;
+    private String rankPointsTitle;
+    private int revives;
+    private double rideDistance;
+    private int roadKills;
+    private int roundMostKills;
+    private int roundsPlayed;
+    private int suicides;
+    private double swimDistance;
+    private int teamKills;
+    private double timeSurvived;
+    private int top10s;
+    private int vehicleDestroys;
+    private double walkDistance;
+    private int weaponsAcquired;
+    private int weeklyKills;
+    private int weeklyWins;
+    private double winPoints;
+    private int wins;
+
+    // Without the name here too, Jackson would also emit the getter as "dbnos"
+    @JsonProperty("dBNOs")
+    public int getDBNOs() {
+        return dBNOs;
+    }
+}
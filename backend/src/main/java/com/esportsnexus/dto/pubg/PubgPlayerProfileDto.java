@@ -0,0 +1,16 @@
+package com.esportsnexus.dto.pubg;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+
+@Data
+public class PubgPlayerProfileDto {
+    private PubgPlayerDto player;
+    private PubgLifetimeStatsDto lifetimeStats;
+    private PubgSeasonStatsDto currentSeasonStats;
+    private String currentSeasonId;
+    
+    // Some lookup failed or missed the deadline, so null fields may just be unknown
+    @JsonIgnore
+    private boolean partial;
+}
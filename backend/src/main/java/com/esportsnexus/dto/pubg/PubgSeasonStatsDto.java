@@ -6,5 +6,5 @@ import java.util.Map;
 @Data
 public class PubgSeasonStatsDto {
     private String seasonId;
-    private Map<String, Map<String, Object>> gameModeStats;
-}
\ No newline at end of file
+    private Map<String, PubgGameModeStatsDto> gameModeStats;
+}
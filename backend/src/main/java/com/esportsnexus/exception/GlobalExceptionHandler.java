@@ -1,6 +1,7 @@
 package com.esportsnexus.exception;
 
 import com.esportsnexus.dto.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -32,6 +33,13 @@ public class GlobalExceptionHandler {
             .body(new ApiResponse(false, "Invalid username or password"));
     }
     
+    @ExceptionHandler(PubgRateLimitException.class)
+    public ResponseEntity<?> handlePubgRateLimitException(PubgRateLimitException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(new ApiResponse(false, "PUBG API rate limit reached, please try again later"));
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGlobalException(Exception ex) {
         ex.printStackTrace();
@@ -0,0 +1,18 @@
+package com.esportsnexus.exception;
+
+public class PubgRateLimitException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PubgRateLimitException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Seconds until the PUBG API quota is expected to allow another call
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.esportsnexus.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Shared (L2) cache entry. Mongo's TTL monitor removes entries once expiresAt has passed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "cache_entries")
+public class CacheEntry {
+    @Id
+    private String id; // cacheName + ":" + key
+    
+    @Indexed
+    private String cacheName;
+    
+    private byte[] data; // PubgBinaryCodec payload
+    private String payload; // JSON, for values the codec does not cover
+    private boolean nullValue;
+    
+    @Indexed(expireAfterSeconds = 0)
+    private Date expiresAt;
+}
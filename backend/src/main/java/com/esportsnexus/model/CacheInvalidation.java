@@ -0,0 +1,29 @@
+package com.esportsnexus.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Notice that a shared cache entry changed, so other backend nodes drop their local copy.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "cache_invalidations")
+public class CacheInvalidation {
+    @Id
+    private String id;
+    
+    private String cacheName;
+    private String key; // null clears the whole cache
+    private String nodeId;
+    
+    @Indexed(expireAfterSeconds = 600)
+    private Date createdAt;
+}
@@ -0,0 +1,39 @@
+package com.esportsnexus.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Result of one tournament match, as reported by the organizer. Standings are
+ * built from these; reporting a match again replaces its earlier result.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "match_results")
+@CompoundIndex(name = "tournamentId_matchId", def = "{'tournamentId': 1, 'matchId': 1}", unique = true)
+public class MatchResult {
+    @Id
+    private String id;
+    
+    private String tournamentId;
+    private String matchId;
+    private List<TeamResult> teams;
+    private LocalDateTime recordedAt;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TeamResult {
+        private String teamId;
+        private int placement; // 1 = winner
+        private int kills;
+    }
+}
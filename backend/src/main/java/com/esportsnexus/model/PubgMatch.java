@@ -0,0 +1,56 @@
+package com.esportsnexus.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Archived PUBG match. Match data never changes once a match is over, so each
+ * match is fetched from the PUBG API once and served from here afterwards.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "pubg_matches")
+public class PubgMatch {
+    @Id
+    private String id; // PUBG match ID
+    
+    private String createdAt;
+    private int duration;
+    private String gameMode;
+    private String mapName;
+    private String matchType;
+    private String shardId;
+    private String titleId;
+    private String telemetryUrl;
+    private List<Participant> participants;
+    
+    private LocalDateTime archivedAt;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Participant {
+        private String id;
+        private String name;
+        private String playerId;
+        private int kills;
+        private int assists;
+        private double damageDealt;
+        private int winPlace;
+        private double timeSurvived;
+        private int headshotKills;
+        private double longestKill;
+        private int revives;
+        private int teamKills;
+        private double walkDistance;
+        private double swimDistance;
+        private double rideDistance;
+    }
+}
@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -16,7 +18,30 @@ import java.util.Map;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "tournaments")
+@CompoundIndexes({
+    // Listings filtered by game/status and paged by startDate (see TournamentRepositoryCustom)
+    @CompoundIndex(name = "game_status_startDate", def = "{'game': 1, 'status': 1, 'startDate': 1, '_id': 1}"),
+    @CompoundIndex(name = "status_startDate", def = "{'status': 1, 'startDate': 1, '_id': 1}"),
+    @CompoundIndex(name = "startDate", def = "{'startDate': 1, '_id': 1}"),
+    @CompoundIndex(name = "createdAt", def = "{'createdAt': 1, '_id': 1}"),
+    @CompoundIndex(name = "organizerId_createdAt", def = "{'organizerId': 1, 'createdAt': -1}"),
+    // Upcoming tournaments; the filter must list exactly ACTIVE_STATUSES
+    @CompoundIndex(name = "active_startDate", def = "{'startDate': 1}",
+        partialFilter = "{'status': {'$in': ['UPCOMING', 'REGISTRATION_OPEN', 'REGISTRATION_CLOSED', 'ONGOING']}}")
+})
 public class Tournament {
+    
+    /**
+     * Statuses covered by the active_startDate partial index. Queries only use that
+     * index when they filter on this exact set.
+     */
+    public static final List<TournamentStatus> ACTIVE_STATUSES = List.of(
+        TournamentStatus.UPCOMING,
+        TournamentStatus.REGISTRATION_OPEN,
+        TournamentStatus.REGISTRATION_CLOSED,
+        TournamentStatus.ONGOING
+    );
+    
     @Id
     private String id;
     
@@ -31,7 +56,7 @@ public class Tournament {
     private TournamentStatus status;
     private int maxTeams;
     private int teamSize;
-    private List<String> registeredTeamIds;
+    private int registeredTeamCount; // maintained with the tournament_registrations collection
     
     // Schedule
     private LocalDateTime registrationStartDate;
@@ -50,6 +75,7 @@ public class Tournament {
     // Results
     private List<String> winnerTeamIds;
     private Map<String, Integer> teamRankings;
+    private long resultVersion; // incremented for every recorded match result, see StandingsService
     
     @CreatedDate
     private LocalDateTime createdAt;
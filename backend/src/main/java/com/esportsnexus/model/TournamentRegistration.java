@@ -0,0 +1,45 @@
+package com.esportsnexus.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * A team's entry in a tournament. Kept out of the Tournament document so that
+ * document stays the same size however many teams sign up; the tournament only
+ * carries registeredTeamCount.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "tournament_registrations")
+@CompoundIndexes({
+    @CompoundIndex(name = "tournamentId_teamId", def = "{'tournamentId': 1, 'teamId': 1}", unique = true),
+    // Roster pages in registration order
+    @CompoundIndex(name = "tournamentId_id", def = "{'tournamentId': 1, '_id': 1}")
+})
+public class TournamentRegistration {
+    @Id
+    private String id;
+    
+    private String tournamentId;
+    
+    @Indexed
+    private String teamId;
+    
+    private LocalDateTime registeredAt;
+    private Integer seed; // set by the organizer when seeding, null until then
+    
+    public TournamentRegistration(String tournamentId, String teamId) {
+        this.tournamentId = tournamentId;
+        this.teamId = teamId;
+        this.registeredAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,9 @@
+package com.esportsnexus.repository;
+
+import com.esportsnexus.model.PubgMatch;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PubgMatchRepository extends MongoRepository<PubgMatch, String> {
+}
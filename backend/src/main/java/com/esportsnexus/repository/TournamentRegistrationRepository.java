@@ -0,0 +1,16 @@
+package com.esportsnexus.repository;
+
+import com.esportsnexus.model.TournamentRegistration;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TournamentRegistrationRepository extends MongoRepository<TournamentRegistration, String> {
+    List<TournamentRegistration> findByTournamentIdOrderByIdAsc(String tournamentId, Pageable pageable);
+    List<TournamentRegistration> findByTournamentIdAndIdGreaterThanOrderByIdAsc(String tournamentId, String afterId,
+                                                                                Pageable pageable);
+    List<TournamentRegistration> findByTeamId(String teamId);
+}
@@ -6,14 +6,15 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface TournamentRepository extends MongoRepository<Tournament, String> {
+public interface TournamentRepository extends MongoRepository<Tournament, String>, TournamentRepositoryCustom {
     List<Tournament> findByStatus(TournamentStatus status);
     List<Tournament> findByGame(String game);
     List<Tournament> findByGameAndStatus(String game, TournamentStatus status);
-    List<Tournament> findByOrganizerId(String organizerId);
-    List<Tournament> findByStartDateBetween(LocalDateTime start, LocalDateTime end);
-    List<Tournament> findByRegisteredTeamIdsContaining(String teamId);
+    List<Tournament> findByOrganizerIdOrderByCreatedAtDesc(String organizerId);
+    List<Tournament> findByStatusInAndStartDateBetweenOrderByStartDateAsc(
+            Collection<TournamentStatus> statuses, LocalDateTime start, LocalDateTime end);
 }
\ No newline at end of file
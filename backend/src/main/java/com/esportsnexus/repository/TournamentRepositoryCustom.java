@@ -0,0 +1,89 @@
+package com.esportsnexus.repository;
+
+import com.esportsnexus.dto.CursorPage;
+import com.esportsnexus.dto.TournamentSummary;
+import com.esportsnexus.model.Tournament;
+import com.esportsnexus.model.Tournament.TournamentStatus;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Tournament listings that load summaries only and page by keyset instead of offset.
+ */
+public interface TournamentRepositoryCustom {
+
+    /**
+     * One page of tournament summaries, optionally filtered by game and status,
+     * ordered by sortField then ID
+     *
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for
+     *         another sort order
+     */
+    CursorPage<TournamentSummary> findSummaries(String game, TournamentStatus status, SortField sortField,
+                                                Sort.Direction direction, String cursor, int limit);
+
+    /**
+     * Register teamId in the tournament. A place is reserved first with a guarded
+     * increment of registeredTeamCount, so concurrent registrations cannot overbook
+     * the tournament; the unique (tournamentId, teamId) index rejects duplicates.
+     */
+    RegistrationOutcome registerTeam(String tournamentId, String teamId);
+
+    /**
+     * Register several teams at once. As many places as are left (up to the number
+     * of new teams) are reserved with one update and the registrations of the first
+     * teams inserted in one bulk write; the teams that did not get a place are
+     * answered FULL (or CLOSED).
+     */
+    Map<String, RegistrationOutcome> registerTeams(String tournamentId, List<String> teamIds);
+
+    /**
+     * Update the organizer-editable details without touching registeredTeamCount
+     *
+     * @return the updated tournament, or null if there is no tournament with tournamentId
+     * @throws IllegalArgumentException if maxTeams is below the number of registered teams
+     */
+    Tournament updateDetails(String tournamentId, String name, String description, String rules, int maxTeams,
+                          Tournament.PrizePool prizePool);
+
+    enum RegistrationOutcome {
+        REGISTERED, FULL, DUPLICATE, CLOSED, NOT_FOUND,
+        // Try again: turned away by the admission queue, or capacity kept changing under contention
+        BUSY
+    }
+
+    enum SortField {
+        START_DATE("startDate", TournamentSummary::getStartDate),
+        CREATED_AT("createdAt", TournamentSummary::getCreatedAt);
+
+        private final String property;
+        private final Function<TournamentSummary, LocalDateTime> accessor;
+
+        SortField(String property, Function<TournamentSummary, LocalDateTime> accessor) {
+            this.property = property;
+            this.accessor = accessor;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        LocalDateTime valueOf(TournamentSummary summary) {
+            return accessor.apply(summary);
+        }
+
+        public static SortField fromProperty(String property) {
+            for (SortField field : values()) {
+                if (field.property.equals(property)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported sort field: " + property);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.esportsnexus.repository;
+
+import com.esportsnexus.dto.CursorPage;
+import com.esportsnexus.dto.TournamentSummary;
+import com.esportsnexus.model.Tournament;
+import com.esportsnexus.model.Tournament.TournamentStatus;
+import com.esportsnexus.model.TournamentRegistration;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class TournamentRepositoryCustomImpl implements TournamentRepositoryCustom {
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+    private static final int MAX_RESERVATION_ATTEMPTS = 5;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public CursorPage<TournamentSummary> findSummaries(String game, TournamentStatus status, SortField sortField,
+                                                       Sort.Direction direction, String cursor, int limit) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (game != null) {
+            criteria.add(Criteria.where("game").is(game));
+        }
+        if (status != null) {
+            criteria.add(Criteria.where("status").is(status));
+        }
+        if (cursor != null) {
+            criteria.add(after(Cursor.decode(cursor, sortField, direction), sortField, direction));
+        }
+
+        Query query = new Query();
+        if (!criteria.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(criteria));
+        }
+        // One extra row tells whether another page follows
+        query.with(Sort.by(direction, sortField.getProperty(), "id")).limit(limit + 1);
+
+        List<TournamentSummary> items = new ArrayList<>(mongoTemplate.query(Tournament.class)
+            .as(TournamentSummary.class)
+            .matching(query)
+            .all());
+
+        String nextCursor = null;
+        if (items.size() > limit) {
+            items = items.subList(0, limit);
+            TournamentSummary last = items.get(limit - 1);
+            nextCursor = new Cursor(sortField, direction, sortField.valueOf(last), last.getId()).encode();
+        }
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    @Override
+    public RegistrationOutcome registerTeam(String tournamentId, String teamId) {
+        if (mongoTemplate.exists(registrationQuery(tournamentId, teamId), TournamentRegistration.class)) {
+            return RegistrationOutcome.DUPLICATE;
+        }
+        if (!reserveSlots(tournamentId, 1)) {
+            return rejectionReason(tournamentId);
+        }
+        try {
+            mongoTemplate.insert(new TournamentRegistration(tournamentId, teamId));
+            return RegistrationOutcome.REGISTERED;
+        } catch (DuplicateKeyException e) {
+            // Registered concurrently by another request
+            releaseSlots(tournamentId, 1);
+            return RegistrationOutcome.DUPLICATE;
+        } catch (RuntimeException e) {
+            releaseSlots(tournamentId, 1);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, RegistrationOutcome> registerTeams(String tournamentId, List<String> teamIds) {
+        Map<String, RegistrationOutcome> outcomes = new LinkedHashMap<>();
+        if (teamIds.size() < 2) {
+            teamIds.forEach(teamId -> outcomes.put(teamId, registerTeam(tournamentId, teamId)));
+            return outcomes;
+        }
+        // Answers follow the order of teamIds
+        teamIds.forEach(teamId -> outcomes.put(teamId, null));
+
+        Query registeredQuery = Query.query(Criteria.where("tournamentId").is(tournamentId).and("teamId").in(teamIds));
+        registeredQuery.fields().include("teamId");
+        mongoTemplate.find(registeredQuery, TournamentRegistration.class)
+            .forEach(registration -> outcomes.put(registration.getTeamId(), RegistrationOutcome.DUPLICATE));
+        List<String> pending = teamIds.stream().filter(teamId -> outcomes.get(teamId) == null).toList();
+
+        // Admit as many teams as there are places, in order; places released by
+        // late duplicates go to the teams after them
+        while (!pending.isEmpty()) {
+            Reservation reservation = reserveAvailableSlots(tournamentId, pending.size());
+            if (reservation.granted() == 0) {
+                pending.forEach(teamId -> outcomes.put(teamId, reservation.rejection()));
+                break;
+            }
+            outcomes.putAll(insertRegistrations(tournamentId, pending.subList(0, reservation.granted())));
+            pending = pending.subList(reservation.granted(), pending.size());
+        }
+        return outcomes;
+    }
+
+    @Override
+    public Tournament updateDetails(String tournamentId, String name, String description, String rules, int maxTeams,
+                                    Tournament.PrizePool prizePool) {
+        Update update = new Update()
+            .set("name", name)
+            .set("description", description)
+            .set("rules", rules)
+            .set("maxTeams", maxTeams)
+            .set("prizePool", prizePool)
+            .set("updatedAt", LocalDateTime.now());
+        // Checked in the same update, so a registration committed meanwhile cannot end up over the limit
+        Query query = Query.query(Criteria.where("_id").is(tournamentId).and("registeredTeamCount").lte(maxTeams));
+        Tournament updated = mongoTemplate.findAndModify(query, update,
+            FindAndModifyOptions.options().returnNew(true), Tournament.class);
+        if (updated == null && mongoTemplate.exists(Query.query(Criteria.where("_id").is(tournamentId)), Tournament.class)) {
+            throw new IllegalArgumentException("maxTeams cannot be lower than the number of registered teams");
+        }
+        return updated;
+    }
+
+    /**
+     * Insert registrations for slots that are already reserved, releasing the slots
+     * of any team that turns out to be registered already
+     */
+    private Map<String, RegistrationOutcome> insertRegistrations(String tournamentId, List<String> teamIds) {
+        Map<String, RegistrationOutcome> outcomes = new LinkedHashMap<>();
+        teamIds.forEach(teamId -> outcomes.put(teamId, RegistrationOutcome.REGISTERED));
+
+        BulkOperations inserts = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TournamentRegistration.class);
+        teamIds.forEach(teamId -> inserts.insert(new TournamentRegistration(tournamentId, teamId)));
+        try {
+            inserts.execute();
+        } catch (BulkOperationException e) {
+            List<BulkWriteError> errors = e.getErrors();
+            releaseSlots(tournamentId, errors.size());
+            for (BulkWriteError error : errors) {
+                if (error.getCode() != DUPLICATE_KEY_ERROR) {
+                    throw e;
+                }
+                outcomes.put(teamIds.get(error.getIndex()), RegistrationOutcome.DUPLICATE);
+            }
+        } catch (RuntimeException e) {
+            releaseSlots(tournamentId, teamIds.size());
+            throw e;
+        }
+        return outcomes;
+    }
+
+    /**
+     * Take count places while the tournament is open and has room for all of them
+     */
+    private boolean reserveSlots(String tournamentId, int count) {
+        Query query = Query.query(Criteria.where("_id").is(tournamentId)
+            .and("status").is(TournamentStatus.REGISTRATION_OPEN)
+            .and("$expr").is(new Document("$lte", List.of(
+                new Document("$add", List.of(new Document("$ifNull", List.of("$registeredTeamCount", 0)), count)),
+                "$maxTeams"))));
+        Update update = new Update()
+            .inc("registeredTeamCount", count)
+            .set("updatedAt", LocalDateTime.now());
+        return mongoTemplate.updateFirst(query, update, Tournament.class).getModifiedCount() > 0;
+    }
+
+    /**
+     * Reserve up to wanted places, as many as are left: read the free capacity, then
+     * take it with a guarded increment, retrying if another writer got there first
+     */
+    private Reservation reserveAvailableSlots(String tournamentId, int wanted) {
+        for (int attempt = 0; attempt < MAX_RESERVATION_ATTEMPTS; attempt++) {
+            Query capacityQuery = Query.query(Criteria.where("_id").is(tournamentId));
+            capacityQuery.fields().include("status", "maxTeams", "registeredTeamCount");
+            Tournament tournament = mongoTemplate.findOne(capacityQuery, Tournament.class);
+            if (tournament == null) {
+                return new Reservation(0, RegistrationOutcome.NOT_FOUND);
+            }
+            if (tournament.getStatus() != TournamentStatus.REGISTRATION_OPEN) {
+                return new Reservation(0, RegistrationOutcome.CLOSED);
+            }
+            int available = tournament.getMaxTeams() - tournament.getRegisteredTeamCount();
+            if (available <= 0) {
+                return new Reservation(0, RegistrationOutcome.FULL);
+            }
+            int granted = Math.min(wanted, available);
+            if (reserveSlots(tournamentId, granted)) {
+                return new Reservation(granted, null);
+            }
+        }
+        return new Reservation(0, RegistrationOutcome.BUSY);
+    }
+
+    private void releaseSlots(String tournamentId, int count) {
+        if (count > 0) {
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(tournamentId)),
+                new Update().inc("registeredTeamCount", -count), Tournament.class);
+        }
+    }
+
+    /**
+     * Why no slot could be reserved. Only runs on the rejection path.
+     */
+    private RegistrationOutcome rejectionReason(String tournamentId) {
+        Query statusQuery = Query.query(Criteria.where("_id").is(tournamentId));
+        statusQuery.fields().include("status");
+        Tournament tournament = mongoTemplate.findOne(statusQuery, Tournament.class);
+        if (tournament == null) {
+            return RegistrationOutcome.NOT_FOUND;
+        }
+        if (tournament.getStatus() != TournamentStatus.REGISTRATION_OPEN) {
+            return RegistrationOutcome.CLOSED;
+        }
+        return RegistrationOutcome.FULL;
+    }
+
+    private record Reservation(int granted, RegistrationOutcome rejection) {
+    }
+
+    private static Query registrationQuery(String tournamentId, String teamId) {
+        return Query.query(Criteria.where("tournamentId").is(tournamentId).and("teamId").is(teamId));
+    }
+
+    /**
+     * Everything strictly after the cursor position. Mongo sorts missing values
+     * first in ascending order, and range operators never match them, so nulls
+     * need their own branches.
+     */
+    private static Criteria after(Cursor cursor, SortField sortField, Sort.Direction direction) {
+        String field = sortField.getProperty();
+        boolean ascending = direction.isAscending();
+        Criteria idAfter = ascending
+            ? Criteria.where("_id").gt(cursor.id)
+            : Criteria.where("_id").lt(cursor.id);
+
+        if (cursor.value == null) {
+            Criteria sameValue = new Criteria().andOperator(Criteria.where(field).is(null), idAfter);
+            return ascending
+                ? new Criteria().orOperator(sameValue, Criteria.where(field).ne(null))
+                : sameValue;
+        }
+
+        Criteria beyondValue = ascending
+            ? Criteria.where(field).gt(cursor.value)
+            : Criteria.where(field).lt(cursor.value);
+        Criteria sameValue = new Criteria().andOperator(Criteria.where(field).is(cursor.value), idAfter);
+        return ascending
+            ? new Criteria().orOperator(beyondValue, sameValue)
+            : new Criteria().orOperator(beyondValue, sameValue, Criteria.where(field).is(null));
+    }
+
+    /**
+     * Position of the last row of a page, encoded as sortField|direction|value|id in
+     * URL-safe Base64
+     */
+    private record Cursor(SortField sortField, Sort.Direction direction, LocalDateTime value, String id) {
+
+        String encode() {
+            String raw = String.join("|", sortField.name(), direction.name(),
+                value != null ? value.toString() : "", id);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String encoded, SortField sortField, Sort.Direction direction) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", -1);
+                if (parts.length != 4 || parts[3].isEmpty()) {
+                    throw new IllegalArgumentException("Invalid cursor");
+                }
+                if (!sortField.name().equals(parts[0]) || !direction.name().equals(parts[1])) {
+                    throw new IllegalArgumentException("Cursor does not match the requested sort order");
+                }
+                LocalDateTime value = parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]);
+                return new Cursor(sortField, direction, value, parts[3]);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.esportsnexus.repository;
+
+import com.esportsnexus.model.User;
+
+import java.util.List;
+
+/**
+ * Targeted updates of the gaming profile parts of a User, so callers do not have
+ * to load and save the whole document.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Atomically set gamingIds.{game}, gamingIds.{game}Name and, when gameStats is not
+     * null, gameStats.{game}
+     *
+     * @return false if there is no user with userId
+     */
+    boolean linkGamingAccount(String userId, String game, String playerId, String playerName,
+                              User.GameStats gameStats);
+
+    /**
+     * Set gameStats.{game}, but only while the user is still linked to playerId, so
+     * stats for an account the user has since replaced are never written
+     *
+     * @return false if the user does not exist or is linked to another player
+     */
+    boolean updateLinkedGameStats(String userId, String game, String playerId, User.GameStats gameStats);
+
+    /**
+     * The user with only gamingIds.{game}, gamingIds.{game}Name and gameStats.{game}
+     * loaded, or null if there is no user with userId
+     */
+    User findGamingProfile(String userId, String game);
+
+    /**
+     * Users linked to an account for game, with only the ID and gamingIds.{game} loaded
+     */
+    List<User> findLinkedAccounts(String game);
+}
@@ -0,0 +1,70 @@
+package com.esportsnexus.repository;
+
+import com.esportsnexus.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.util.Assert;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean linkGamingAccount(String userId, String game, String playerId, String playerName,
+                                     User.GameStats gameStats) {
+        checkGame(game);
+        Update update = new Update()
+            .set("gamingIds." + game, playerId)
+            .set("gamingIds." + game + "Name", playerName)
+            .set("updatedAt", LocalDateTime.now());
+        if (gameStats != null) {
+            update.set("gameStats." + game, gameStats);
+        }
+        return mongoTemplate.updateFirst(byId(userId), update, User.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean updateLinkedGameStats(String userId, String game, String playerId, User.GameStats gameStats) {
+        checkGame(game);
+        Query query = byId(userId).addCriteria(Criteria.where("gamingIds." + game).is(playerId));
+        Update update = new Update()
+            .set("gameStats." + game, gameStats)
+            .set("updatedAt", LocalDateTime.now());
+        return mongoTemplate.updateFirst(query, update, User.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public User findGamingProfile(String userId, String game) {
+        checkGame(game);
+        Query query = byId(userId);
+        query.fields()
+            .include("gamingIds." + game)
+            .include("gamingIds." + game + "Name")
+            .include("gameStats." + game);
+        return mongoTemplate.findOne(query, User.class);
+    }
+
+    @Override
+    public List<User> findLinkedAccounts(String game) {
+        checkGame(game);
+        Query query = Query.query(Criteria.where("gamingIds." + game).exists(true));
+        query.fields().include("gamingIds." + game);
+        return mongoTemplate.find(query, User.class);
+    }
+
+    private static Query byId(String userId) {
+        return Query.query(Criteria.where("_id").is(userId));
+    }
+
+    // The game becomes part of a field path, so it must not be able to address other fields
+    private static void checkGame(String game) {
+        Assert.isTrue(game != null && game.matches("[A-Za-z0-9_-]+"), "Invalid game key: " + game);
+    }
+}
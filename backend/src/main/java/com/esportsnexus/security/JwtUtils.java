@@ -1,35 +1,92 @@
 package com.esportsnexus.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+/**
+ * Issues and verifies JWTs. The signing key and parser are built once at startup;
+ * {@link #parseAndValidate} verifies a token once and hands back its claims.
+ * Optionally, verified tokens are remembered (by SHA-256 hash, until they expire)
+ * so repeated requests with the same token skip signature verification.
+ */
+@Slf4j
 @Component
 public class JwtUtils {
     
+    private static final String CLAIM_USERNAME = "username";
+    private static final String CLAIM_EMAIL = "email";
+    private static final String CLAIM_ROLES = "roles";
+    
     @Value("${app.jwt.secret}")
     private String jwtSecret;
     
     @Value("${app.jwt.expiration}")
     private int jwtExpiration;
     
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${app.jwt.verified-cache.enabled:false}")
+    private boolean verifiedCacheEnabled;
+    
+    @Value("${app.jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheMaximumSize;
+    
+    private Key signingKey;
+    private JwtParser jwtParser;
+    // Token hash -> claims; null when the verified-token cache is disabled
+    private Cache<String, Claims> verifiedTokens;
+    
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        if (verifiedCacheEnabled) {
+            verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheMaximumSize)
+                    .expireAfter(new TokenExpiry())
+                    .build();
+        }
     }
     
     public String generateJwtToken(Authentication authentication) {
-        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        return generateJwtToken((UserPrincipal) authentication.getPrincipal());
+    }
+    
+    /**
+     * Token carrying the username, email and roles, so the principal can be rebuilt
+     * from the claims alone (app.jwt.principal-source=claims)
+     */
+    public String generateJwtToken(UserPrincipal userPrincipal) {
+        List<String> roles = userPrincipal.getAuthorities().stream()
+                .map(authority -> authority.getAuthority().replaceFirst("^ROLE_", ""))
+                .collect(Collectors.toList());
         
         return Jwts.builder()
                 .setSubject(userPrincipal.getId())
+                .claim(CLAIM_USERNAME, userPrincipal.getUsername())
+                .claim(CLAIM_EMAIL, userPrincipal.getEmail())
+                .claim(CLAIM_ROLES, roles)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
     
@@ -38,38 +95,99 @@ public class JwtUtils {
                 .setSubject(userId)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
     
-    public String getUserIdFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-    
-    public boolean validateJwtToken(String authToken) {
+    /**
+     * Verify the token and return its claims, or null if it is invalid or expired
+     */
+    public Claims parseAndValidate(String token) {
+        String tokenHash = null;
+        if (verifiedTokens != null && token != null) {
+            tokenHash = hash(token);
+            Claims cached = verifiedTokens.getIfPresent(tokenHash);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(authToken);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (tokenHash != null && claims.getExpiration() != null) {
+                verifiedTokens.put(tokenHash, claims);
+            }
+            return claims;
         } catch (SecurityException e) {
-            System.err.println("Invalid JWT signature: " + e.getMessage());
+            log.warn("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
-            System.err.println("Invalid JWT token: " + e.getMessage());
+            log.warn("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
-            System.err.println("JWT token is expired: " + e.getMessage());
+            log.debug("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
-            System.err.println("JWT token is unsupported: " + e.getMessage());
+            log.warn("JWT token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            System.err.println("JWT claims string is empty: " + e.getMessage());
+            log.warn("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.warn("Invalid JWT: {}", e.getMessage());
         }
         
-        return false;
+        return null;
+    }
+    
+    public boolean validateJwtToken(String authToken) {
+        return parseAndValidate(authToken) != null;
+    }
+    
+    public String getUserIdFromJwtToken(String token) {
+        Claims claims = parseAndValidate(token);
+        return claims != null ? claims.getSubject() : null;
+    }
+    
+    /**
+     * Build the principal from verified claims, or return null for tokens issued
+     * without the username, email and roles claims
+     */
+    public UserPrincipal getPrincipalFromClaims(Claims claims) {
+        Object roles = claims.get(CLAIM_ROLES);
+        if (!(roles instanceof Collection<?> roleNames)) {
+            return null;
+        }
+        return UserPrincipal.create(
+                claims.getSubject(),
+                claims.get(CLAIM_USERNAME, String.class),
+                claims.get(CLAIM_EMAIL, String.class),
+                roleNames.stream().map(String::valueOf).collect(Collectors.toList())
+        );
+    }
+    
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    /**
+     * Keeps each verified token until its own exp claim
+     */
+    private static class TokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -21,6 +21,7 @@ public class UserPrincipal implements UserDetails, OAuth2User {
     private String password;
     private Collection<? extends GrantedAuthority> authorities;
     private Map<String, Object> attributes;
+    private boolean enabled;
     
     public static UserPrincipal create(User user) {
         Collection<GrantedAuthority> authorities = user.getRoles().stream()
@@ -33,10 +34,22 @@ public class UserPrincipal implements UserDetails, OAuth2User {
                 user.getEmail(),
                 user.getPassword(),
                 authorities,
-                null
+                null,
+                user.isEnabled()
         );
     }
     
+    /**
+     * Principal rebuilt from signed token claims, without a password or a database lookup
+     */
+    public static UserPrincipal create(String id, String username, String email, Collection<String> roles) {
+        Collection<GrantedAuthority> authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .collect(Collectors.toList());
+        
+        return new UserPrincipal(id, username, email, null, authorities, null, true);
+    }
+    
     public static UserPrincipal create(User user, Map<String, Object> attributes) {
         UserPrincipal userPrincipal = UserPrincipal.create(user);
         userPrincipal.setAttributes(attributes);
@@ -80,6 +93,6 @@ public class UserPrincipal implements UserDetails, OAuth2User {
     
     @Override
     public boolean isEnabled() {
-        return true;
+        return enabled;
     }
 }
\ No newline at end of file
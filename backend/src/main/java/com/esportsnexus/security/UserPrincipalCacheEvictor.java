@@ -0,0 +1,68 @@
+package com.esportsnexus.security;
+
+import com.esportsnexus.cache.CacheInvalidationBus;
+import com.esportsnexus.model.User;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops cached principals when a user is saved or deleted, so role and enabled
+ * changes apply from the next request. authPrincipals is local to each node, so
+ * the eviction is also published on the {@link CacheInvalidationBus}; other nodes
+ * apply it within one poll interval. Partial updates through UserRepositoryCustom
+ * only touch gaming fields and do not need an eviction.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCacheEvictor extends AbstractMongoEventListener<User> {
+
+    private static final String CACHE_NAME = "authPrincipals";
+
+    private final CacheManager cacheManager;
+    private final ObjectProvider<CacheInvalidationBus> invalidationBus;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null && event.getSource().getId() != null) {
+            cache.evict(event.getSource().getId());
+            publish(event.getSource().getId());
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        Document query = event.getSource();
+        Object id = query.get("_id");
+        if (id instanceof String || id instanceof ObjectId) {
+            cache.evict(id.toString());
+            publish(id.toString());
+        } else {
+            // Deleted by a broader query; we cannot tell which users were affected
+            cache.clear();
+            publish(null);
+        }
+    }
+
+    /**
+     * Evict key (all principals if null) on the other nodes
+     */
+    private void publish(String key) {
+        CacheInvalidationBus bus = invalidationBus.getIfAvailable();
+        if (bus != null) {
+            bus.publish(CACHE_NAME, key);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.esportsnexus.service;
+
+import com.esportsnexus.dto.pubg.PubgLifetimeStatsDto;
+import com.esportsnexus.dto.pubg.PubgPlayerProfileDto;
+import com.esportsnexus.dto.pubg.PubgSeasonStatsDto;
+import com.esportsnexus.exception.PubgRateLimitException;
+import com.esportsnexus.model.User;
+import com.esportsnexus.repository.UserRepository;
+import com.esportsnexus.service.pubg.PubgRequestPriority;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the stats of linked BGMI accounts warm so /bgmi/my-stats can answer from
+ * cache without calling the PUBG API. Each run refreshes as many accounts as its
+ * share of the API quota allows, recently active users first and then the ones
+ * refreshed longest ago. Lookups run at background priority, so interactive
+ * requests take rate limit permits first.
+ */
+@Slf4j
+@Service
+public class BgmiStatsRefreshService {
+
+    // Lifetime plus season stats
+    private static final int REQUESTS_PER_PLAYER = 2;
+
+    private final PubgApiService pubgApiService;
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    private final ThreadPoolTaskExecutor pubgExecutor;
+
+    private final boolean enabled;
+    private final int playersPerRun;
+    private final long activeWindowMs;
+
+    // userId -> last my-stats request; userId -> last successful refresh
+    private final Map<String, Long> lastActive = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastRefreshed = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> pendingRefreshes = new ConcurrentHashMap<>();
+
+    public BgmiStatsRefreshService(PubgApiService pubgApiService,
+                                   UserRepository userRepository,
+                                   CacheManager cacheManager,
+                                   @Qualifier("pubgExecutor") ThreadPoolTaskExecutor pubgExecutor,
+                                   @Value("${pubg.stats-refresh.enabled:true}") boolean enabled,
+                                   @Value("${pubg.stats-refresh.interval-ms:300000}") long intervalMs,
+                                   @Value("${pubg.stats-refresh.quota-share:0.5}") double quotaShare,
+                                   @Value("${pubg.stats-refresh.max-players-per-run:50}") int maxPlayersPerRun,
+                                   @Value("${pubg.stats-refresh.active-window-ms:86400000}") long activeWindowMs,
+                                   @Value("${pubg.api.rate-limit.requests-per-minute:10}") int requestsPerMinute) {
+        this.pubgApiService = pubgApiService;
+        this.userRepository = userRepository;
+        this.cacheManager = cacheManager;
+        this.pubgExecutor = pubgExecutor;
+        this.enabled = enabled;
+        this.activeWindowMs = activeWindowMs;
+
+        double requestsPerRun = requestsPerMinute * (intervalMs / (double) TimeUnit.MINUTES.toMillis(1)) * quotaShare;
+        this.playersPerRun = Math.max(1, Math.min(maxPlayersPerRun, (int) (requestsPerRun / REQUESTS_PER_PLAYER)));
+    }
+
+    /**
+     * Cached stats for a linked account. Never calls the PUBG API; when the stats
+     * are not cached yet a background refresh is queued and the fields stay null.
+     */
+    public PubgPlayerProfileDto getCachedProfile(String userId, String playerId) {
+        lastActive.put(userId, System.currentTimeMillis());
+
+        PubgPlayerProfileDto profile = new PubgPlayerProfileDto();
+        profile.setLifetimeStats(cached("pubgLifetimeStats", playerId, PubgLifetimeStatsDto.class));
+        String seasonId = cached("pubgCurrentSeason", SimpleKey.EMPTY, String.class);
+        profile.setCurrentSeasonId(seasonId);
+        if (seasonId != null) {
+            profile.setCurrentSeasonStats(cached("pubgSeasonStats", playerId + "_" + seasonId, PubgSeasonStatsDto.class));
+        }
+
+        if (profile.getLifetimeStats() == null || profile.getCurrentSeasonStats() == null) {
+            refreshAsync(userId, playerId);
+        }
+        return profile;
+    }
+
+    @Scheduled(fixedDelayString = "${pubg.stats-refresh.interval-ms:300000}",
+               initialDelayString = "${pubg.stats-refresh.initial-delay-ms:60000}")
+    public void refreshLinkedAccounts() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        lastActive.values().removeIf(seen -> now - seen > activeWindowMs);
+
+        List<LinkedAccount> accounts = findLinkedAccounts();
+        lastRefreshed.keySet().retainAll(accounts.stream().map(LinkedAccount::userId).collect(Collectors.toSet()));
+        accounts.sort(Comparator
+            .comparingLong((LinkedAccount account) -> -lastActive.getOrDefault(account.userId(), 0L))
+            .thenComparingLong(account -> lastRefreshed.getOrDefault(account.userId(), 0L)));
+
+        int refreshed = 0;
+        for (LinkedAccount account : accounts.subList(0, Math.min(playersPerRun, accounts.size()))) {
+            try {
+                if (refresh(account.userId(), account.playerId())) {
+                    refreshed++;
+                }
+            } catch (PubgRateLimitException e) {
+                log.info("PUBG quota exhausted after refreshing {} linked accounts", refreshed);
+                return;
+            } catch (Exception e) {
+                log.warn("Error refreshing BGMI stats for user {}: {}", account.userId(), e.getMessage());
+            }
+        }
+        log.debug("Refreshed BGMI stats for {} of {} linked accounts", refreshed, accounts.size());
+    }
+
+    /**
+     * Refresh one account's cached stats and its stored gameStats.bgmi summary
+     */
+    private boolean refresh(String userId, String playerId) {
+        return PubgRequestPriority.runAs(PubgRequestPriority.BACKGROUND, () -> {
+            PubgLifetimeStatsDto lifetimeStats = pubgApiService.refreshPlayerLifetimeStats(playerId);
+            String seasonId = pubgApiService.getCurrentSeasonId();
+            if (seasonId != null) {
+                pubgApiService.refreshPlayerSeasonStats(playerId, seasonId);
+            }
+            if (lifetimeStats == null) {
+                return false;
+            }
+            // Only gameStats.bgmi is written, and only while the user is still linked to playerId
+            userRepository.updateLinkedGameStats(userId, "bgmi", playerId,
+                pubgApiService.convertToGameStats(lifetimeStats, "squad-fpp"));
+            lastRefreshed.put(userId, System.currentTimeMillis());
+            return true;
+        });
+    }
+
+    private void refreshAsync(String userId, String playerId) {
+        if (!enabled || pendingRefreshes.putIfAbsent(userId, Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            pubgExecutor.execute(() -> {
+                try {
+                    refresh(userId, playerId);
+                } catch (Exception e) {
+                    log.warn("Error refreshing BGMI stats for user {}: {}", userId, e.getMessage());
+                } finally {
+                    pendingRefreshes.remove(userId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            pendingRefreshes.remove(userId);
+            log.debug("PUBG executor saturated, leaving user {} to the scheduled refresh", userId);
+        }
+    }
+
+    private List<LinkedAccount> findLinkedAccounts() {
+        List<LinkedAccount> accounts = new ArrayList<>();
+        for (User user : userRepository.findLinkedAccounts("bgmi")) {
+            String playerId = user.getGamingIds() != null ? user.getGamingIds().get("bgmi") : null;
+            if (playerId != null) {
+                accounts.add(new LinkedAccount(user.getId(), playerId));
+            }
+        }
+        return accounts;
+    }
+
+    private <T> T cached(String cacheName, Object key, Class<T> type) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return null;
+        }
+        // A loading Caffeine cache would call its loader on a miss, so peek at its map view
+        if (cache.getNativeCache() instanceof LoadingCache<?, ?> loadingCache) {
+            Object value = loadingCache.asMap().get(key);
+            return type.isInstance(value) ? type.cast(value) : null;
+        }
+        return cache.get(key, type);
+    }
+
+    private record LinkedAccount(String userId, String playerId) {
+    }
+}
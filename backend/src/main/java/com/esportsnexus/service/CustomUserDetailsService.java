@@ -4,6 +4,7 @@ import com.esportsnexus.model.User;
 import com.esportsnexus.repository.UserRepository;
 import com.esportsnexus.security.UserPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -27,7 +28,12 @@ public class CustomUserDetailsService implements UserDetailsService {
         return UserPrincipal.create(user);
     }
     
+    /**
+     * Cached for a short time since every authenticated request resolves its principal
+     * here; entries are evicted when the user is saved, see UserPrincipalCacheEvictor
+     */
     @Transactional
+    @Cacheable(value = "authPrincipals", key = "#id")
     public UserDetails loadUserById(String id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> 
@@ -0,0 +1,190 @@
+package com.esportsnexus.service;
+
+import com.esportsnexus.dto.pubg.PubgLifetimeStatsDto;
+import com.esportsnexus.dto.pubg.PubgMatchDto;
+import com.esportsnexus.dto.pubg.PubgPlayerDto;
+import com.esportsnexus.dto.pubg.PubgPlayerProfileDto;
+import com.esportsnexus.dto.pubg.PubgSeasonStatsDto;
+import com.esportsnexus.service.pubg.PubgRequestDeadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Fans out PUBG API lookups on the shared pubgExecutor and assembles the results
+ * within a per-request deadline.
+ */
+@Slf4j
+@Service
+public class PubgAggregationService {
+
+    private final PubgApiService pubgApiService;
+    private final PubgMatchArchiveService matchArchiveService;
+    private final PubgMatchDiskStore matchDiskStore;
+    private final CacheManager cacheManager;
+    private final ThreadPoolTaskExecutor pubgExecutor;
+
+    @Value("${pubg.api.request-timeout-ms:4000}")
+    private long requestTimeoutMs;
+
+    public PubgAggregationService(PubgApiService pubgApiService,
+                                  PubgMatchArchiveService matchArchiveService,
+                                  PubgMatchDiskStore matchDiskStore,
+                                  CacheManager cacheManager,
+                                  @Qualifier("pubgExecutor") ThreadPoolTaskExecutor pubgExecutor) {
+        this.pubgApiService = pubgApiService;
+        this.matchArchiveService = matchArchiveService;
+        this.matchDiskStore = matchDiskStore;
+        this.cacheManager = cacheManager;
+        this.pubgExecutor = pubgExecutor;
+    }
+
+    /**
+     * Fetch matches, keeping the order of matchIds. Matches already in the pubgMatch
+     * cache, the disk store or the match archive are resolved in bulk; the rest are fetched
+     * concurrently. Matches that fail or are still pending when the deadline passes
+     * are left out of the result.
+     */
+    public List<PubgMatchDto> getMatches(List<String> matchIds) {
+        Cache matchCache = cacheManager.getCache("pubgMatch");
+        Map<String, PubgMatchDto> known = new HashMap<>();
+        List<String> uncached = new ArrayList<>();
+        for (String matchId : matchIds) {
+            PubgMatchDto cached = matchCache != null ? matchCache.get(matchId, PubgMatchDto.class) : null;
+            if (cached != null) {
+                known.put(matchId, cached);
+            } else {
+                uncached.add(matchId);
+            }
+        }
+
+        Map<String, PubgMatchDto> stored = matchDiskStore.findAll(uncached);
+        known.putAll(stored);
+        uncached.removeAll(stored.keySet());
+
+        Map<String, PubgMatchDto> archived = matchArchiveService.findAll(uncached);
+        known.putAll(archived);
+        archived.values().forEach(matchDiskStore::save);
+
+        if (matchCache != null) {
+            stored.forEach(matchCache::put);
+            archived.forEach(matchCache::put);
+        }
+
+        long deadline = deadline();
+        List<CompletableFuture<PubgMatchDto>> futures = new ArrayList<>(matchIds.size());
+        for (String matchId : matchIds) {
+            PubgMatchDto match = known.get(matchId);
+            futures.add(match != null
+                ? CompletableFuture.completedFuture(match)
+                : submit(deadline, () -> pubgApiService.getMatch(matchId)));
+        }
+
+        awaitAll(futures, requestTimeoutMs);
+
+        List<PubgMatchDto> matches = new ArrayList<>(futures.size());
+        for (CompletableFuture<PubgMatchDto> future : futures) {
+            PubgMatchDto match = resultOrNull(future);
+            if (match != null) {
+                matches.add(match);
+            }
+        }
+
+        if (matches.size() < matchIds.size()) {
+            log.warn("Returning {} of {} matches within {}ms", matches.size(), matchIds.size(), requestTimeoutMs);
+        }
+        return matches;
+    }
+
+    /**
+     * Fetch player, lifetime stats and current season in parallel, then chain the
+     * season stats lookup on the season ID. All lookups share one deadline; anything
+     * not ready by then is left null in the returned profile, which is then marked
+     * partial.
+     */
+    public PubgPlayerProfileDto getPlayerProfile(String playerId, boolean includePlayer) {
+        long deadline = deadline();
+        CompletableFuture<PubgPlayerDto> player = includePlayer
+            ? submit(deadline, () -> pubgApiService.getPlayer(playerId))
+            : CompletableFuture.completedFuture(null);
+        CompletableFuture<PubgLifetimeStatsDto> lifetimeStats =
+            submit(deadline, () -> pubgApiService.getPlayerLifetimeStats(playerId));
+        CompletableFuture<String> seasonId = submit(deadline, pubgApiService::getCurrentSeasonId);
+        CompletableFuture<PubgSeasonStatsDto> seasonStats = seasonId.thenApplyAsync(
+            id -> id != null
+                ? PubgRequestDeadline.runBefore(deadline, () -> pubgApiService.getPlayerSeasonStats(playerId, id))
+                : null,
+            pubgExecutor
+        );
+
+        awaitAll(List.of(player, lifetimeStats, seasonStats), requestTimeoutMs);
+
+        PubgPlayerProfileDto profile = new PubgPlayerProfileDto();
+        profile.setPartial(!completedNormally(player) || !completedNormally(lifetimeStats)
+            || !completedNormally(seasonStats));
+        profile.setPlayer(resultOrNull(player));
+        profile.setLifetimeStats(resultOrNull(lifetimeStats));
+        profile.setCurrentSeasonId(resultOrNull(seasonId));
+        profile.setCurrentSeasonStats(resultOrNull(seasonStats));
+        return profile;
+    }
+
+    private long deadline() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(requestTimeoutMs);
+    }
+
+    /**
+     * Run task on pubgExecutor; its rate limit wait ends at the deadline, when the caller stops waiting
+     */
+    private <T> CompletableFuture<T> submit(long deadline, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> PubgRequestDeadline.runBefore(deadline, task), pubgExecutor);
+        } catch (TaskRejectedException e) {
+            log.warn("PUBG executor saturated, skipping lookup");
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void awaitAll(List<? extends CompletableFuture<?>> futures, long timeoutMs) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new))
+                .get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.debug("Deadline of {}ms reached with lookups pending", timeoutMs);
+        } catch (ExecutionException e) {
+            log.debug("Lookup failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean completedNormally(CompletableFuture<?> future) {
+        return future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    private <T> T resultOrNull(CompletableFuture<T> future) {
+        if (!future.isDone()) {
+            future.cancel(false);
+            return null;
+        }
+        if (future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.join();
+    }
+}
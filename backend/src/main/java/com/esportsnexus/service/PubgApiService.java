@@ -1,17 +1,36 @@
 package com.esportsnexus.service;
 
+import com.esportsnexus.cache.TwoLevelCache;
 import com.esportsnexus.dto.pubg.*;
+import com.esportsnexus.exception.PubgRateLimitException;
 import com.esportsnexus.model.User;
+import com.esportsnexus.service.pubg.LenientJsonInputStream;
+import com.esportsnexus.service.pubg.MicroBatcher;
+import com.esportsnexus.service.pubg.PubgMatchParser;
+import com.esportsnexus.service.pubg.PubgStatsParser;
+import com.esportsnexus.service.pubg.PubgRateLimiter;
+import com.esportsnexus.service.pubg.RequestCoalescer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -21,129 +40,165 @@ public class PubgApiService {
     
     private static final String BASE_URL = "https://api.pubg.com/shards";
     private static final String PLATFORM_SHARD = "pc-sea"; // Using PC Southeast Asia shard
+    private static final int MAX_PLAYERS_PER_REQUEST = 10; // PUBG limit for filter[playerIds|playerNames]
+    
+    // URI templates double as the uri tag of the http.client.requests metrics
+    private static final String PLAYERS_BY_NAMES_URI = BASE_URL + "/{shard}/players?filter[playerNames]={playerNames}";
+    private static final String PLAYERS_BY_IDS_URI = BASE_URL + "/{shard}/players?filter[playerIds]={playerIds}";
+    private static final String SEASON_STATS_URI = BASE_URL + "/{shard}/players/{playerId}/seasons/{seasonId}";
+    private static final String LIFETIME_STATS_URI = BASE_URL + "/{shard}/players/{playerId}/seasons/lifetime";
+    private static final String MATCH_URI = BASE_URL + "/{shard}/matches/{matchId}";
+    private static final String SEASONS_URI = BASE_URL + "/{shard}/seasons";
     
     @Value("${pubg.api.key:}")
     private String apiKey;
     
+    @Value("${pubg.api.rate-limit.max-retries:2}")
+    private int maxRateLimitRetries;
+    
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final PubgMatchParser matchParser;
+    private final PubgStatsParser statsParser;
+    private final RequestCoalescer requestCoalescer;
+    private final PubgRateLimiter rateLimiter;
+    private final CacheManager cacheManager;
+    private final PubgMatchArchiveService matchArchiveService;
+    private final PubgMatchDiskStore matchDiskStore;
+    private final MicroBatcher<String, PubgPlayerDto> playerIdBatcher;
+    private final MicroBatcher<String, PubgPlayerDto> playerNameBatcher;
     
-    public PubgApiService() {
-        this.restTemplate = new RestTemplate();
+    public PubgApiService(@Qualifier("pubgRestTemplate") RestTemplate restTemplate,
+                          RequestCoalescer requestCoalescer,
+                          PubgRateLimiter rateLimiter,
+                          CacheManager cacheManager,
+                          PubgMatchArchiveService matchArchiveService,
+                          PubgMatchDiskStore matchDiskStore,
+                          @Value("${pubg.api.batch-window-ms:5}") long batchWindowMs) {
+        this.restTemplate = restTemplate;
         this.objectMapper = new ObjectMapper();
+        this.matchParser = new PubgMatchParser(objectMapper.getFactory());
+        this.statsParser = new PubgStatsParser(objectMapper.getFactory());
+        this.requestCoalescer = requestCoalescer;
+        this.rateLimiter = rateLimiter;
+        this.cacheManager = cacheManager;
+        this.matchArchiveService = matchArchiveService;
+        this.matchDiskStore = matchDiskStore;
+        this.playerIdBatcher = new MicroBatcher<>(MAX_PLAYERS_PER_REQUEST, batchWindowMs, this::fetchPlayersByIds);
+        this.playerNameBatcher = new MicroBatcher<>(MAX_PLAYERS_PER_REQUEST, batchWindowMs, this::fetchPlayersByNames);
     }
     
     /**
-     * Search for players by their in-game names
+     * Search for players by their in-game names. Lookup errors, including rate limit
+     * timeouts, propagate (and are not cached) rather than reading as "no players".
      */
-    @Cacheable(value = "pubgPlayers", key = "#playerNames.toString()")
+    @Cacheable(value = "pubgPlayers", key = "#playerNames.toString()", sync = true)
     public List<PubgPlayerDto> searchPlayers(List<String> playerNames) {
         try {
-            // Build URL manually to avoid double encoding
-            String url = BASE_URL + "/" + PLATFORM_SHARD + "/players?filter[playerNames]=" + 
-                        String.join(",", playerNames);
-            
-            HttpHeaders headers = createHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, String.class
-            );
+            // Single-name lookups are packed together with concurrent ones
+            if (playerNames.size() == 1) {
+                PubgPlayerDto player = playerNameBatcher.load(playerNames.get(0));
+                return player != null ? Collections.singletonList(player) : Collections.emptyList();
+            }
             
-            return parsePlayersResponse(response.getBody());
-        } catch (Exception e) {
+            return fetchPlayers(PLAYERS_BY_NAMES_URI, playerNames);
+        } catch (RuntimeException e) {
             log.error("Error searching for players: {}", e.getMessage());
-            return Collections.emptyList();
+            throw e;
         }
     }
     
     /**
-     * Get player by ID
+     * Get player by ID, or null if there is no such player. Lookup errors propagate
+     * (and are not cached), so callers can tell them apart from a missing player.
      */
-    @Cacheable(value = "pubgPlayer", key = "#playerId")
+    @Cacheable(value = "pubgPlayer", key = "#playerId", sync = true)
     public PubgPlayerDto getPlayer(String playerId) {
         try {
-            String url = BASE_URL + "/" + PLATFORM_SHARD + "/players/" + playerId;
-            
-            HttpHeaders headers = createHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, String.class
-            );
-            
-            return parsePlayerResponse(response.getBody());
-        } catch (Exception e) {
+            return playerIdBatcher.load(playerId);
+        } catch (RuntimeException e) {
             log.error("Error getting player: {}", e.getMessage());
-            return null;
+            throw e;
         }
     }
     
     /**
-     * Get player's season stats
+     * Get player's season stats. Lookup errors propagate and are not cached.
      */
-    @Cacheable(value = "pubgSeasonStats", key = "#playerId + '_' + #seasonId")
+    @Cacheable(value = "pubgSeasonStats", key = "#playerId + '_' + #seasonId", sync = true)
     public PubgSeasonStatsDto getPlayerSeasonStats(String playerId, String seasonId) {
         try {
-            String url = BASE_URL + "/" + PLATFORM_SHARD + "/players/" + playerId + 
-                        "/seasons/" + seasonId;
-            
-            HttpHeaders headers = createHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, String.class
-            );
-            
-            return parseSeasonStatsResponse(response.getBody());
-        } catch (Exception e) {
+            return fetchSeasonStats(playerId, seasonId);
+        } catch (RuntimeException e) {
             log.error("Error getting season stats: {}", e.getMessage());
-            return null;
+            throw e;
         }
     }
     
     /**
-     * Get player's lifetime stats
+     * Fetch season stats and replace the cached entry, used by the background refresher.
+     * Errors propagate so the caller can stop once the quota is exhausted.
      */
-    @Cacheable(value = "pubgLifetimeStats", key = "#playerId")
+    @CachePut(value = "pubgSeasonStats", key = "#playerId + '_' + #seasonId", unless = "#result == null")
+    public PubgSeasonStatsDto refreshPlayerSeasonStats(String playerId, String seasonId) {
+        return fetchSeasonStats(playerId, seasonId);
+    }
+    
+    /**
+     * Get player's lifetime stats. Lookup errors propagate and are not cached.
+     */
+    @Cacheable(value = "pubgLifetimeStats", key = "#playerId", sync = true)
     public PubgLifetimeStatsDto getPlayerLifetimeStats(String playerId) {
         try {
-            String url = BASE_URL + "/" + PLATFORM_SHARD + "/players/" + playerId + 
-                        "/seasons/lifetime";
-            
-            HttpHeaders headers = createHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, String.class
-            );
-            
-            return parseLifetimeStatsResponse(response.getBody());
-        } catch (Exception e) {
+            return fetchLifetimeStats(playerId);
+        } catch (RuntimeException e) {
             log.error("Error getting lifetime stats: {}", e.getMessage());
-            return null;
+            throw e;
         }
     }
     
     /**
-     * Get match details
+     * Fetch lifetime stats and replace the cached entry, used by the background refresher.
+     * Errors propagate so the caller can stop once the quota is exhausted.
+     */
+    @CachePut(value = "pubgLifetimeStats", key = "#playerId", unless = "#result == null")
+    public PubgLifetimeStatsDto refreshPlayerLifetimeStats(String playerId) {
+        return fetchLifetimeStats(playerId);
+    }
+    
+    /**
+     * Get match details from the node-local disk store or the match archive, falling
+     * back to the PUBG API. Matches are written back to both stores so they are only
+     * downloaded once and survive restarts of this node. Returns null for a match the
+     * PUBG API does not know; neither that nor a lookup error is cached.
      */
-    @Cacheable(value = "pubgMatch", key = "#matchId")
+    @Cacheable(value = "pubgMatch", key = "#matchId", unless = "#result == null")
     public PubgMatchDto getMatch(String matchId) {
         try {
-            String url = BASE_URL + "/" + PLATFORM_SHARD + "/matches/" + matchId;
+            PubgMatchDto stored = matchDiskStore.find(matchId);
+            if (stored != null) {
+                return stored;
+            }
             
-            HttpHeaders headers = createHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+            PubgMatchDto archived = matchArchiveService.find(matchId);
+            if (archived != null) {
+                matchDiskStore.save(archived);
+                return archived;
+            }
             
-            ResponseEntity<String> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, String.class
+            PubgMatchDto match = fetchStream(
+                response -> matchParser.parse(response.getBody()), MATCH_URI, PLATFORM_SHARD, matchId
             );
-            
-            return parseMatchResponse(response.getBody());
-        } catch (Exception e) {
-            log.error("Error getting match: {}", e.getMessage());
+            if (match != null) {
+                matchArchiveService.save(match);
+                matchDiskStore.save(match);
+            }
+            return match;
+        } catch (HttpClientErrorException.NotFound e) {
             return null;
+        } catch (RuntimeException e) {
+            log.error("Error getting match: {}", e.getMessage());
+            throw e;
         }
     }
     
@@ -152,17 +207,15 @@ public class PubgApiService {
      */
     @Cacheable(value = "pubgCurrentSeason")
     public String getCurrentSeasonId() {
+        return fetchCurrentSeasonId();
+    }
+    
+    /**
+     * Fetch current season ID bypassing the cache, used to refresh pubgCurrentSeason ahead of expiry
+     */
+    public String fetchCurrentSeasonId() {
         try {
-            String url = BASE_URL + "/" + PLATFORM_SHARD + "/seasons";
-            
-            HttpHeaders headers = createHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, String.class
-            );
-            
-            JsonNode root = objectMapper.readTree(response.getBody());
+            JsonNode root = objectMapper.readTree(fetch(SEASONS_URI, PLATFORM_SHARD));
             JsonNode data = root.get("data");
             
             // Find the current season
@@ -188,7 +241,7 @@ public class PubgApiService {
             return new User.GameStats();
         }
         
-        Map<String, Object> stats = lifetimeStats.getGameModeStats().get(gameMode);
+        PubgGameModeStatsDto stats = lifetimeStats.getGameModeStats().get(gameMode);
         if (stats == null) {
             stats = lifetimeStats.getGameModeStats().get("squad-fpp"); // Default to squad-fpp
         }
@@ -198,10 +251,10 @@ public class PubgApiService {
         }
         
         User.GameStats gameStats = new User.GameStats();
-        gameStats.setMatchesPlayed(getIntValue(stats, "roundsPlayed"));
-        gameStats.setWins(getIntValue(stats, "wins"));
-        gameStats.setKills(getIntValue(stats, "kills"));
-        gameStats.setDeaths(getIntValue(stats, "losses"));
+        gameStats.setMatchesPlayed(stats.getRoundsPlayed());
+        gameStats.setWins(stats.getWins());
+        gameStats.setKills(stats.getKills());
+        gameStats.setDeaths(stats.getLosses());
         
         // Calculate K/D ratio
         int deaths = gameStats.getDeaths() > 0 ? gameStats.getDeaths() : 1;
@@ -212,214 +265,186 @@ public class PubgApiService {
         gameStats.setWinRate((double) gameStats.getWins() / matches * 100);
         
         // Additional stats
-        gameStats.setRank(stats.get("rankPointsTitle") != null ? 
-            stats.get("rankPointsTitle").toString() : "Unranked");
+        gameStats.setRank(stats.getRankPointsTitle() != null ? 
+            stats.getRankPointsTitle() : "Unranked");
         
         return gameStats;
     }
     
-    private HttpHeaders createHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-        headers.set("Authorization", "Bearer " + apiKey);
-        return headers;
+    private PubgSeasonStatsDto fetchSeasonStats(String playerId, String seasonId) {
+        return fetchStream(
+            response -> statsParser.parse(response.getBody(), new PubgSeasonStatsDto()),
+            SEASON_STATS_URI, PLATFORM_SHARD, playerId, seasonId
+        );
     }
     
-    private List<PubgPlayerDto> parsePlayersResponse(String json) {
-        try {
-            // The PUBG API returns malformed JSON with missing commas
-            // We need to fix it before parsing
-            String fixedJson = fixMalformedJson(json);
-            log.debug("Fixed JSON: {}", fixedJson);
-            
-            JsonNode root = objectMapper.readTree(fixedJson);
-            JsonNode data = root.get("data");
-            
-            if (data == null || !data.isArray()) {
-                log.warn("No data array found in response");
-                return Collections.emptyList();
-            }
-            
-            List<PubgPlayerDto> players = new ArrayList<>();
-            for (JsonNode playerNode : data) {
-                PubgPlayerDto player = new PubgPlayerDto();
-                
-                // Get player ID
-                if (playerNode.has("id")) {
-                    player.setId(playerNode.get("id").asText());
-                }
-                
-                // Get attributes
-                JsonNode attributes = playerNode.get("attributes");
-                if (attributes != null) {
-                    if (attributes.has("name")) {
-                        player.setName(attributes.get("name").asText());
-                    }
-                    if (attributes.has("shardId")) {
-                        player.setShardId(attributes.get("shardId").asText());
-                    }
-                }
-                
-                // Parse match IDs
-                JsonNode relationships = playerNode.get("relationships");
-                if (relationships != null && relationships.has("matches")) {
-                    JsonNode matches = relationships.get("matches").get("data");
-                    if (matches != null && matches.isArray()) {
-                        List<String> matchIds = new ArrayList<>();
-                        for (JsonNode match : matches) {
-                            if (match.has("id")) {
-                                matchIds.add(match.get("id").asText());
-                            }
-                        }
-                        player.setMatchIds(matchIds);
+    private PubgLifetimeStatsDto fetchLifetimeStats(String playerId) {
+        return fetchStream(
+            response -> statsParser.parse(response.getBody(), new PubgLifetimeStatsDto()),
+            LIFETIME_STATS_URI, PLATFORM_SHARD, playerId
+        );
+    }
+    
+    /**
+     * GET a PUBG API URL. Concurrent cache misses for the same URL share one upstream request,
+     * which waits for a rate limit permit and is retried after backing off on 429. Throws
+     * PubgRateLimitException once the retries are used up.
+     */
+    private String fetch(String uriTemplate, Object... uriVariables) {
+        return fetchStream(
+            response -> StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8),
+            uriTemplate, uriVariables
+        );
+    }
+    
+    /**
+     * Like {@link #fetch} but hands the response stream to the extractor, so large
+     * documents can be parsed without buffering the body as a String first.
+     */
+    private <T> T fetchStream(ResponseExtractor<T> extractor, String uriTemplate, Object... uriVariables) {
+        String url = restTemplate.getUriTemplateHandler().expand(uriTemplate, uriVariables).toString();
+        return requestCoalescer.execute(url, () -> {
+            RequestCallback requestCallback = request -> request.getHeaders().putAll(createHeaders());
+            ResponseExtractor<T> rateLimitedExtractor = response -> {
+                rateLimiter.onResponse(response.getHeaders());
+                return extractor.extractData(response);
+            };
+            for (int attempt = 0; ; attempt++) {
+                rateLimiter.acquire();
+                try {
+                    return restTemplate.execute(
+                        uriTemplate, HttpMethod.GET, requestCallback, rateLimitedExtractor, uriVariables
+                    );
+                } catch (HttpClientErrorException.TooManyRequests e) {
+                    rateLimiter.backOff(e.getResponseHeaders());
+                    if (attempt >= maxRateLimitRetries) {
+                        throw new PubgRateLimitException("PUBG API rate limit exceeded",
+                            rateLimiter.retryAfterSeconds());
                     }
                 }
-                
-                // Only add player if we have at least an ID
-                if (player.getId() != null) {
-                    players.add(player);
-                }
             }
-            
-            log.info("Parsed {} players from response", players.size());
-            return players;
-        } catch (Exception e) {
-            log.error("Error parsing players response: {}", e.getMessage(), e);
-            return Collections.emptyList();
-        }
+        });
     }
     
     /**
-     * Fix malformed JSON from PUBG API by adding missing commas
+     * Batch loader for getPlayer: one /players request for up to 10 player IDs
      */
-    private String fixMalformedJson(String json) {
-        // Add commas after closing quotes that are followed by opening quotes
-        json = json.replaceAll("\"(\\s*)\"", "\",\"");
-        // Add commas after closing braces/brackets that are followed by opening quotes
-        json = json.replaceAll("\\}(\\s*)\"", "},\"");
-        json = json.replaceAll("\\](\\s*)\"", "],\"");
-        // Add commas after closing quotes that are followed by opening braces/brackets
-        json = json.replaceAll("\"(\\s*)\\{", "\",{");
-        json = json.replaceAll("\"(\\s*)\\[", "\",[");
-        return json;
+    private Map<String, PubgPlayerDto> fetchPlayersByIds(List<String> playerIds) {
+        Map<String, PubgPlayerDto> playersById = new HashMap<>();
+        for (PubgPlayerDto player : fetchPlayers(PLAYERS_BY_IDS_URI, playerIds)) {
+            playersById.put(player.getId(), player);
+        }
+        return playersById;
     }
     
-    private PubgPlayerDto parsePlayerResponse(String json) {
-        try {
-            List<PubgPlayerDto> players = parsePlayersResponse(json);
-            return players.isEmpty() ? null : players.get(0);
-        } catch (Exception e) {
-            log.error("Error parsing player response: {}", e.getMessage());
-            return null;
+    /**
+     * Batch loader for single-name searches: one /players request for up to 10 names
+     */
+    private Map<String, PubgPlayerDto> fetchPlayersByNames(List<String> playerNames) {
+        List<PubgPlayerDto> players = fetchPlayers(PLAYERS_BY_NAMES_URI, playerNames);
+        cachePlayers(players);
+        
+        Map<String, PubgPlayerDto> playersByName = new HashMap<>();
+        for (String name : playerNames) {
+            for (PubgPlayerDto player : players) {
+                if (name.equalsIgnoreCase(player.getName())) {
+                    playersByName.put(name, player);
+                    if (name.equals(player.getName())) {
+                        break;
+                    }
+                }
+            }
         }
+        return playersByName;
     }
     
-    private PubgSeasonStatsDto parseSeasonStatsResponse(String json) {
+    private List<PubgPlayerDto> fetchPlayers(String uriTemplate, List<String> filterValues) {
         try {
-            JsonNode root = objectMapper.readTree(json);
-            JsonNode data = root.get("data");
-            JsonNode attributes = data.get("attributes");
-            
-            PubgSeasonStatsDto stats = new PubgSeasonStatsDto();
-            stats.setSeasonId(data.get("id").asText());
-            
-            // Parse game mode stats
-            JsonNode gameModeStats = attributes.get("gameModeStats");
-            Map<String, Map<String, Object>> modeStats = new HashMap<>();
-            
-            Iterator<String> modes = gameModeStats.fieldNames();
-            while (modes.hasNext()) {
-                String mode = modes.next();
-                JsonNode modeNode = gameModeStats.get(mode);
-                Map<String, Object> statsMap = objectMapper.convertValue(modeNode, Map.class);
-                modeStats.put(mode, statsMap);
-            }
-            
-            stats.setGameModeStats(modeStats);
-            return stats;
-        } catch (Exception e) {
-            log.error("Error parsing season stats response: {}", e.getMessage());
-            return null;
+            return fetchStream(
+                response -> parsePlayersResponse(response.getBody()),
+                uriTemplate, PLATFORM_SHARD, String.join(",", filterValues)
+            );
+        } catch (HttpClientErrorException.NotFound e) {
+            // PUBG answers 404 when none of the requested players exist
+            return Collections.emptyList();
         }
     }
     
-    private PubgLifetimeStatsDto parseLifetimeStatsResponse(String json) {
-        try {
-            JsonNode root = objectMapper.readTree(json);
-            JsonNode data = root.get("data");
-            JsonNode attributes = data.get("attributes");
-            
-            PubgLifetimeStatsDto stats = new PubgLifetimeStatsDto();
-            stats.setSeasonId(data.get("id").asText());
-            
-            // Parse game mode stats
-            JsonNode gameModeStats = attributes.get("gameModeStats");
-            Map<String, Map<String, Object>> modeStats = new HashMap<>();
-            
-            Iterator<String> modes = gameModeStats.fieldNames();
-            while (modes.hasNext()) {
-                String mode = modes.next();
-                JsonNode modeNode = gameModeStats.get(mode);
-                Map<String, Object> statsMap = objectMapper.convertValue(modeNode, Map.class);
-                modeStats.put(mode, statsMap);
+    private void cachePlayers(List<PubgPlayerDto> players) {
+        Cache cache = cacheManager.getCache("pubgPlayer");
+        if (cache == null) {
+            return;
+        }
+        for (PubgPlayerDto player : players) {
+            // A search result is no reason to invalidate other nodes' copies
+            if (cache instanceof TwoLevelCache twoLevelCache) {
+                twoLevelCache.fill(player.getId(), player);
+            } else {
+                cache.put(player.getId(), player);
             }
-            
-            stats.setGameModeStats(modeStats);
-            return stats;
-        } catch (Exception e) {
-            log.error("Error parsing lifetime stats response: {}", e.getMessage());
-            return null;
         }
     }
     
-    private PubgMatchDto parseMatchResponse(String json) {
-        try {
-            JsonNode root = objectMapper.readTree(json);
-            JsonNode data = root.get("data");
-            JsonNode attributes = data.get("attributes");
+    private HttpHeaders createHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+        headers.set("Authorization", "Bearer " + apiKey);
+        return headers;
+    }
+    
+    private List<PubgPlayerDto> parsePlayersResponse(InputStream body) throws IOException {
+        // The PUBG API returns malformed JSON with missing commas,
+        // which are inserted while the stream is read
+        JsonNode root = objectMapper.readTree(new LenientJsonInputStream(body));
+        JsonNode data = root.get("data");
+        
+        if (data == null || !data.isArray()) {
+            log.warn("No data array found in response");
+            return Collections.emptyList();
+        }
+        
+        List<PubgPlayerDto> players = new ArrayList<>();
+        for (JsonNode playerNode : data) {
+            PubgPlayerDto player = new PubgPlayerDto();
             
-            PubgMatchDto match = new PubgMatchDto();
-            match.setId(data.get("id").asText());
-            match.setCreatedAt(attributes.get("createdAt").asText());
-            match.setDuration(attributes.get("duration").asInt());
-            match.setGameMode(attributes.get("gameMode").asText());
-            match.setMapName(attributes.get("mapName").asText());
-            match.setMatchType(attributes.get("matchType").asText());
+            // Get player ID
+            if (playerNode.has("id")) {
+                player.setId(playerNode.get("id").asText());
+            }
             
-            // Parse participants
-            JsonNode included = root.get("included");
-            List<PubgParticipantDto> participants = new ArrayList<>();
+            // Get attributes
+            JsonNode attributes = playerNode.get("attributes");
+            if (attributes != null) {
+                if (attributes.has("name")) {
+                    player.setName(attributes.get("name").asText());
+                }
+                if (attributes.has("shardId")) {
+                    player.setShardId(attributes.get("shardId").asText());
+                }
+            }
             
-            for (JsonNode node : included) {
-                if ("participant".equals(node.get("type").asText())) {
-                    JsonNode stats = node.get("attributes").get("stats");
-                    
-                    PubgParticipantDto participant = new PubgParticipantDto();
-                    participant.setId(node.get("id").asText());
-                    participant.setName(stats.get("name").asText());
-                    participant.setPlayerId(stats.get("playerId").asText());
-                    participant.setKills(stats.get("kills").asInt());
-                    participant.setDamageDealt(stats.get("damageDealt").asDouble());
-                    participant.setWinPlace(stats.get("winPlace").asInt());
-                    participant.setTimeSurvived(stats.get("timeSurvived").asDouble());
-                    
-                    participants.add(participant);
+            // Parse match IDs
+            JsonNode relationships = playerNode.get("relationships");
+            if (relationships != null && relationships.has("matches")) {
+                JsonNode matches = relationships.get("matches").get("data");
+                if (matches != null && matches.isArray()) {
+                    List<String> matchIds = new ArrayList<>();
+                    for (JsonNode match : matches) {
+                        if (match.has("id")) {
+                            matchIds.add(match.get("id").asText());
+                        }
+                    }
+                    player.setMatchIds(matchIds);
                 }
             }
             
-            match.setParticipants(participants);
-            return match;
-        } catch (Exception e) {
-            log.error("Error parsing match response: {}", e.getMessage());
-            return null;
-        }
-    }
-    
-    private int getIntValue(Map<String, Object> stats, String key) {
-        Object value = stats.get(key);
-        if (value instanceof Number) {
-            return ((Number) value).intValue();
+            // Only add player if we have at least an ID
+            if (player.getId() != null) {
+                players.add(player);
+            }
         }
-        return 0;
+        
+        log.info("Parsed {} players from response", players.size());
+        return players;
     }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.esportsnexus.service;
+
+import com.esportsnexus.dto.pubg.PubgMatchDto;
+import com.esportsnexus.dto.pubg.PubgParticipantDto;
+import com.esportsnexus.model.PubgMatch;
+import com.esportsnexus.repository.PubgMatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Write-through Mongo store for PUBG matches. Archive failures are logged and
+ * treated as misses so the PUBG API stays the fallback.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PubgMatchArchiveService {
+
+    private final PubgMatchRepository pubgMatchRepository;
+
+    public PubgMatchDto find(String matchId) {
+        try {
+            return pubgMatchRepository.findById(matchId)
+                .map(this::toDto)
+                .orElse(null);
+        } catch (Exception e) {
+            log.warn("Error reading archived match {}: {}", matchId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Load all archived matches among matchIds in one query, keyed by match ID
+     */
+    public Map<String, PubgMatchDto> findAll(Collection<String> matchIds) {
+        if (matchIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            Map<String, PubgMatchDto> matches = new HashMap<>();
+            for (PubgMatch match : pubgMatchRepository.findAllById(matchIds)) {
+                matches.put(match.getId(), toDto(match));
+            }
+            return matches;
+        } catch (Exception e) {
+            log.warn("Error reading archived matches: {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    public void save(PubgMatchDto match) {
+        try {
+            pubgMatchRepository.save(toEntity(match));
+        } catch (Exception e) {
+            log.warn("Error archiving match {}: {}", match.getId(), e.getMessage());
+        }
+    }
+
+    private PubgMatch toEntity(PubgMatchDto dto) {
+        PubgMatch match = new PubgMatch();
+        BeanUtils.copyProperties(dto, match, "participants");
+        match.setArchivedAt(LocalDateTime.now());
+
+        List<PubgMatch.Participant> participants = new ArrayList<>();
+        if (dto.getParticipants() != null) {
+            for (PubgParticipantDto source : dto.getParticipants()) {
+                PubgMatch.Participant participant = new PubgMatch.Participant();
+                BeanUtils.copyProperties(source, participant);
+                participants.add(participant);
+            }
+        }
+        match.setParticipants(participants);
+        return match;
+    }
+
+    private PubgMatchDto toDto(PubgMatch match) {
+        PubgMatchDto dto = new PubgMatchDto();
+        BeanUtils.copyProperties(match, dto, "participants");
+
+        List<PubgParticipantDto> participants = new ArrayList<>();
+        if (match.getParticipants() != null) {
+            for (PubgMatch.Participant source : match.getParticipants()) {
+                PubgParticipantDto participant = new PubgParticipantDto();
+                BeanUtils.copyProperties(source, participant);
+                participants.add(participant);
+            }
+        }
+        dto.setParticipants(participants);
+        return dto;
+    }
+}
@@ -0,0 +1,402 @@
+package com.esportsnexus.service;
+
+import com.esportsnexus.dto.pubg.PubgMatchDto;
+import com.esportsnexus.service.pubg.PubgBinaryCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Node-local warm store for PUBG matches: append-only, memory-mapped segment
+ * files holding {@link PubgBinaryCodec} records, with an in-memory index from
+ * match ID to record offset. The index is rebuilt from the segments on startup,
+ * so a restarted node serves matches it has seen before from the page cache.
+ *
+ * <p>Record layout: body length (int), CRC32 of the body (int), then the body:
+ * key length (short), key bytes (UTF-8) and the encoded match. The header is
+ * written after the body, and the startup scan stops at the first record that is
+ * incomplete or fails its checksum.
+ *
+ * <p>When the segments exceed the disk budget the oldest one is compacted:
+ * records read since the last compaction are copied to the active segment and
+ * the rest are dropped together with the file. Readers hold a reference on the
+ * segment they decode from, and the file is unmapped once the last of them is
+ * done, so its disk space is released right away rather than whenever the
+ * mapping is garbage collected.
+ */
+@Slf4j
+@Service
+public class PubgMatchDiskStore {
+
+    private static final int HEADER_SIZE = 8;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    // Unsafe.invokeCleaner, the only way to unmap a MappedByteBuffer on Java 17
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final long maxDiskBytes;
+    private final PubgBinaryCodec codec = new PubgBinaryCodec();
+
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    // Oldest first; guarded by this
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private Segment active;
+    private volatile boolean available;
+
+    public PubgMatchDiskStore(@Value("${pubg.match-store.enabled:false}") boolean enabled,
+                              @Value("${pubg.match-store.directory:data/match-store}") String directory,
+                              @Value("${pubg.match-store.segment-size:64MB}") DataSize segmentSize,
+                              @Value("${pubg.match-store.max-disk:1GB}") DataSize maxDisk) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentSize = (int) Math.min(Integer.MAX_VALUE, segmentSize.toBytes());
+        // Always leave room for the active segment plus the one being compacted
+        this.maxDiskBytes = Math.max(maxDisk.toBytes(), 2L * this.segmentSize);
+    }
+
+    @PostConstruct
+    public synchronized void open() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(directory)) {
+                files = listing
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .sorted()
+                    .toList();
+            }
+            for (Path file : files) {
+                Segment segment = Segment.open(file, segmentId(file), segmentSize);
+                scan(segment);
+                segments.addLast(segment);
+            }
+            active = segments.isEmpty() ? roll() : segments.getLast();
+            available = true;
+            log.info("Match disk store opened with {} matches in {} segments", index.size(), segments.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Match disk store disabled, could not open {}: {}", directory, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        available = false;
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+    }
+
+    public PubgMatchDto find(String matchId) {
+        if (!available) {
+            return null;
+        }
+        Location location;
+        while (true) {
+            location = index.get(matchId);
+            if (location == null) {
+                return null;
+            }
+            if (location.segment.retain()) {
+                break;
+            }
+            // Compacted meanwhile; the index already points at the kept copy, if any
+            index.remove(matchId, location);
+        }
+        try {
+            location.accessed = true;
+            ByteBuffer body = location.segment.body(location.offset);
+            int keyLength = body.getShort(0) & 0xFFFF;
+            return (PubgMatchDto) codec.decode(body.position(2 + keyLength).slice());
+        } catch (RuntimeException e) {
+            log.warn("Dropping unreadable match {} from disk store: {}", matchId, e.getMessage());
+            index.remove(matchId, location);
+            return null;
+        } finally {
+            location.segment.release();
+        }
+    }
+
+    /**
+     * Look up all matchIds held on disk, keyed by match ID
+     */
+    public Map<String, PubgMatchDto> findAll(Collection<String> matchIds) {
+        if (!available || matchIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, PubgMatchDto> matches = new HashMap<>();
+        for (String matchId : matchIds) {
+            PubgMatchDto match = find(matchId);
+            if (match != null) {
+                matches.put(matchId, match);
+            }
+        }
+        return matches;
+    }
+
+    public synchronized void save(PubgMatchDto match) {
+        if (!available || match.getId() == null || index.containsKey(match.getId())) {
+            return;
+        }
+        try {
+            byte[] record = encodeRecord(match.getId(), codec.encode(match));
+            if (record.length > segmentSize) {
+                return;
+            }
+            if (active.remaining() < record.length) {
+                active = roll();
+                enforceBudget(record.length);
+            }
+            append(match.getId(), record, false);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Error writing match {} to disk store: {}", match.getId(), e.getMessage());
+        }
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    private void append(String matchId, byte[] record, boolean accessed) {
+        int offset = active.append(record);
+        active.keys.add(matchId);
+        Location location = new Location(active, offset);
+        location.accessed = accessed;
+        index.put(matchId, location);
+    }
+
+    /**
+     * Compact until the segments fit the budget, leaving reserve bytes free in the active segment
+     */
+    private void enforceBudget(int reserve) {
+        while ((long) segments.size() * segmentSize > maxDiskBytes && segments.size() > 1) {
+            compact(segments.removeFirst(), reserve);
+        }
+    }
+
+    private void compact(Segment oldest, int reserve) {
+        int kept = 0;
+        int dropped = 0;
+        for (String matchId : oldest.keys) {
+            Location location = index.get(matchId);
+            if (location == null || location.segment != oldest) {
+                continue;
+            }
+            byte[] record = oldest.record(location.offset);
+            if (location.accessed && active.remaining() - reserve >= record.length) {
+                // Second chance: kept once, then dropped unless read again before the next pass
+                append(matchId, record, false);
+                kept++;
+            } else {
+                index.remove(matchId, location);
+                dropped++;
+            }
+        }
+        try {
+            Files.deleteIfExists(oldest.path);
+        } catch (IOException e) {
+            log.warn("Could not delete match segment {}: {}", oldest.path, e.getMessage());
+        }
+        // No index entry points at it any more; unmapped as soon as in-flight reads finish
+        oldest.release();
+        log.debug("Compacted match segment {}: kept {}, dropped {}", oldest.path.getFileName(), kept, dropped);
+    }
+
+    private Segment roll() throws IOException {
+        long id = segments.isEmpty() ? 0 : segments.getLast().id + 1;
+        Path path = directory.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+        Segment segment = Segment.open(path, id, segmentSize);
+        segments.addLast(segment);
+        return segment;
+    }
+
+    /**
+     * Index every intact record and leave the segment's append position after the last one
+     */
+    private void scan(Segment segment) {
+        ByteBuffer buffer = segment.buffer.duplicate();
+        int position = 0;
+        while (position + HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 2 || position + HEADER_SIZE + length > buffer.capacity()) {
+                break;
+            }
+            ByteBuffer body = buffer.slice(position + HEADER_SIZE, length);
+            if (checksum(body) != buffer.getInt(position + 4)) {
+                log.warn("Match segment {} is truncated at offset {}", segment.path.getFileName(), position);
+                break;
+            }
+            int keyLength = body.getShort(0) & 0xFFFF;
+            byte[] key = new byte[keyLength];
+            body.get(2, key);
+            String matchId = new String(key, StandardCharsets.UTF_8);
+            segment.keys.add(matchId);
+            index.put(matchId, new Location(segment, position));
+            position += HEADER_SIZE + length;
+        }
+        segment.position = position;
+    }
+
+    private static byte[] encodeRecord(String matchId, byte[] payload) {
+        byte[] key = matchId.getBytes(StandardCharsets.UTF_8);
+        int bodyLength = 2 + key.length + payload.length;
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + bodyLength);
+        record.putInt(bodyLength);
+        record.putInt(0); // checksum, filled in below
+        record.putShort((short) key.length);
+        record.put(key);
+        record.put(payload);
+        record.putInt(4, checksum(record.slice(HEADER_SIZE, bodyLength)));
+        return record.array();
+    }
+
+    private static int checksum(ByteBuffer body) {
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Unmap now instead of when the buffer is collected; the buffer must not be used afterwards
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(buffer);
+        } catch (Throwable e) {
+            log.debug("Could not unmap match segment: {}", e.getMessage());
+        }
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Compacted match segments are unmapped only when collected: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static long segmentId(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static final class Location {
+        private final Segment segment;
+        private final int offset;
+        private volatile boolean accessed;
+
+        private Location(Segment segment, int offset) {
+            this.segment = segment;
+            this.offset = offset;
+        }
+    }
+
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        // Keys written to this segment, used to find its live records during compaction
+        private final List<String> keys = new ArrayList<>();
+        // One reference held by the store until compaction, plus one per reader in find
+        private final AtomicInteger references = new AtomicInteger(1);
+        private int position;
+
+        private Segment(long id, Path path, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path path, long id, int size) throws IOException {
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // The mapping stays valid after the channel is closed
+                long length = Math.max(channel.size(), size);
+                return new Segment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, length));
+            }
+        }
+
+        int remaining() {
+            return buffer.capacity() - position;
+        }
+
+        /**
+         * Take a reader reference; false once the segment has been compacted and released
+         */
+        boolean retain() {
+            while (true) {
+                int count = references.get();
+                if (count == 0) {
+                    return false;
+                }
+                if (references.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                unmap(buffer);
+            }
+        }
+
+        /**
+         * Writes the body before the header so a torn write never looks like a valid record
+         */
+        int append(byte[] record) {
+            int offset = position;
+            buffer.put(offset + HEADER_SIZE, record, HEADER_SIZE, record.length - HEADER_SIZE);
+            buffer.put(offset + 4, record, 4, 4);
+            buffer.put(offset, record, 0, 4);
+            position += record.length;
+            return offset;
+        }
+
+        ByteBuffer body(int offset) {
+            return buffer.slice(offset + HEADER_SIZE, buffer.getInt(offset));
+        }
+
+        byte[] record(int offset) {
+            byte[] record = new byte[HEADER_SIZE + buffer.getInt(offset)];
+            buffer.get(offset, record);
+            return record;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.esportsnexus.service;
+
+import com.esportsnexus.dto.TeamStanding;
+import com.esportsnexus.model.MatchResult;
+import com.esportsnexus.model.Tournament;
+import com.esportsnexus.service.standings.Leaderboard;
+import com.esportsnexus.service.standings.PlacementScoring;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.mongodb.client.result.UpdateResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Server-side tournament standings. Match results are stored in match_results and
+ * applied to an in-memory {@link Leaderboard} per tournament as they arrive, so
+ * nothing is recomputed across rounds. Every recorded result increments
+ * Tournament.resultVersion; a leaderboard behind that version, e.g. because the
+ * result was recorded on another node, is rebuilt from match_results when read.
+ * Rankings are written to Tournament.teamRankings periodically rather than on
+ * every result, and only from a leaderboard at the current version.
+ */
+@Slf4j
+@Service
+public class StandingsService {
+
+    private final MongoTemplate mongoTemplate;
+    private final PlacementScoring scoring;
+
+    // tournamentId -> leaderboard; pending rankings are written out before one is dropped
+    private final LoadingCache<String, Leaderboard> leaderboards;
+
+    public StandingsService(MongoTemplate mongoTemplate,
+                            @Value("${tournament.standings.placement-points:10,6,5,4,3,2,1,1}") int[] placementPoints,
+                            @Value("${tournament.standings.kill-points:1}") int killPoints,
+                            @Value("${tournament.standings.max-leaderboards:1000}") long maxLeaderboards) {
+        this.mongoTemplate = mongoTemplate;
+        this.scoring = new PlacementScoring(placementPoints, killPoints);
+        this.leaderboards = Caffeine.newBuilder()
+                .maximumSize(maxLeaderboards)
+                .expireAfterWrite(Duration.ofHours(1))
+                .removalListener((String tournamentId, Leaderboard leaderboard, RemovalCause cause) -> {
+                    if (tournamentId != null && leaderboard != null) {
+                        writeRankings(tournamentId, leaderboard);
+                    }
+                })
+                .build(this::load);
+    }
+
+    /**
+     * Record the result of a match, replacing any earlier result for the same match
+     *
+     * @throws IllegalArgumentException if the result is incomplete or lists a team twice,
+     *         or the tournament does not exist
+     */
+    public void recordResult(String tournamentId, MatchResult result) {
+        validate(result);
+        // Loaded before the write, so the rebuild cannot already contain this result
+        Leaderboard leaderboard = leaderboards.get(tournamentId);
+        if (leaderboard == null) {
+            throw new IllegalArgumentException("Tournament not found");
+        }
+
+        result.setId(null);
+        result.setTournamentId(tournamentId);
+        result.setRecordedAt(LocalDateTime.now());
+        long version;
+        // Writes of the same tournament on this node are serialized, so the result each
+        // one replaces is exactly the one the previous write applied to the board
+        synchronized (leaderboard.writeLock()) {
+            MatchResult previous = mongoTemplate.findAndReplace(
+                    Query.query(Criteria.where("tournamentId").is(tournamentId).and("matchId").is(result.getMatchId())),
+                    result,
+                    FindAndReplaceOptions.options().upsert());
+            // Incremented after the write, so a board loaded at some version has every result counted in it
+            version = incrementResultVersion(tournamentId);
+            // Applied only if no other node recorded a result since the board was last current
+            if (leaderboard.version() == version - 1) {
+                leaderboard.replace(previous, result);
+                leaderboard.setVersion(version);
+            }
+        }
+
+        // The board missed a result from another node, or was evicted and reloaded
+        // before this one was stored: rebuild it now so the rankings get written out
+        Leaderboard current = leaderboards.asMap().get(tournamentId);
+        if (current == null || current.version() < version) {
+            if (current != null) {
+                leaderboards.asMap().remove(tournamentId, current);
+            }
+            leaderboards.get(tournamentId);
+        }
+
+        updateMatchScores(tournamentId, result);
+    }
+
+    /**
+     * Top standings, or null if the tournament does not exist
+     */
+    public List<TeamStanding> getTopStandings(String tournamentId, int limit) {
+        Leaderboard leaderboard = currentLeaderboard(tournamentId);
+        return leaderboard != null ? leaderboard.top(limit) : null;
+    }
+
+    /**
+     * Standing of teamId, or null if the tournament does not exist or the team has no results in it
+     */
+    public TeamStanding getStanding(String tournamentId, String teamId) {
+        Leaderboard leaderboard = currentLeaderboard(tournamentId);
+        return leaderboard != null ? leaderboard.find(teamId) : null;
+    }
+
+    @Scheduled(fixedDelayString = "${tournament.standings.snapshot-interval-ms:30000}")
+    public void snapshotRankings() {
+        leaderboards.asMap().forEach(this::writeRankings);
+    }
+
+    @PreDestroy
+    public void close() {
+        snapshotRankings();
+    }
+
+    /**
+     * This node's leaderboard, rebuilt first if results were recorded since it was
+     * current; null if the tournament does not exist
+     */
+    private Leaderboard currentLeaderboard(String tournamentId) {
+        Long version = resultVersion(tournamentId);
+        if (version == null) {
+            return null;
+        }
+        Leaderboard leaderboard = leaderboards.get(tournamentId);
+        if (leaderboard != null && leaderboard.version() < version) {
+            leaderboards.asMap().remove(tournamentId, leaderboard);
+            leaderboard = leaderboards.get(tournamentId);
+        }
+        return leaderboard;
+    }
+
+    /**
+     * Rebuild the leaderboard from match_results; null for an unknown tournament, so
+     * nothing is cached for ids that anyone can request
+     */
+    private Leaderboard load(String tournamentId) {
+        // Read before the results, which are stored before the version moves past them
+        Long version = resultVersion(tournamentId);
+        if (version == null) {
+            return null;
+        }
+        Leaderboard leaderboard = new Leaderboard(scoring);
+        leaderboard.setVersion(version);
+        mongoTemplate.find(Query.query(Criteria.where("tournamentId").is(tournamentId)), MatchResult.class)
+                .forEach(result -> leaderboard.replace(null, result));
+        // Left dirty: the stored rankings may come from a board that was behind
+        return leaderboard;
+    }
+
+    private Long resultVersion(String tournamentId) {
+        Query query = Query.query(Criteria.where("_id").is(tournamentId));
+        query.fields().include("resultVersion");
+        Tournament tournament = mongoTemplate.findOne(query, Tournament.class);
+        return tournament != null ? tournament.getResultVersion() : null;
+    }
+
+    private long incrementResultVersion(String tournamentId) {
+        Query query = Query.query(Criteria.where("_id").is(tournamentId));
+        query.fields().include("resultVersion");
+        Tournament tournament = mongoTemplate.findAndModify(query, new Update().inc("resultVersion", 1),
+                FindAndModifyOptions.options().returnNew(true), Tournament.class);
+        return tournament != null ? tournament.getResultVersion() : 0;
+    }
+
+    private void writeRankings(String tournamentId, Leaderboard leaderboard) {
+        // Read before the snapshot: a result applied in between has already moved the stored version
+        long version = leaderboard.version();
+        Map<String, Integer> rankings = leaderboard.snapshotIfDirty();
+        if (rankings == null) {
+            return;
+        }
+        try {
+            // Only a board at the current version may overwrite the rankings
+            UpdateResult written = mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(tournamentId).and("resultVersion").is(version)),
+                    new Update().set("teamRankings", rankings).set("updatedAt", LocalDateTime.now()),
+                    Tournament.class);
+            if (written.getMatchedCount() == 0) {
+                // Behind another node's results; the next read rebuilds it and writes again
+                leaderboards.asMap().remove(tournamentId, leaderboard);
+            }
+        } catch (Exception e) {
+            log.warn("Error saving rankings of tournament {}: {}", tournamentId, e.getMessage());
+            leaderboard.markDirty();
+        }
+    }
+
+    /**
+     * Fill in the match's scores (teamId -> points) wherever it appears in the
+     * tournament's rounds
+     */
+    private void updateMatchScores(String tournamentId, MatchResult result) {
+        Map<String, Integer> scores = new HashMap<>();
+        result.getTeams().forEach(team ->
+                scores.put(team.getTeamId(), scoring.points(team.getPlacement(), team.getKills())));
+        try {
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(tournamentId)
+                            .and("rounds.matches.matchId").is(result.getMatchId())),
+                    new Update().set("rounds.$[].matches.$[match].scores", scores)
+                            .filterArray(Criteria.where("match.matchId").is(result.getMatchId())),
+                    Tournament.class);
+        } catch (Exception e) {
+            log.warn("Error saving scores of match {}: {}", result.getMatchId(), e.getMessage());
+        }
+    }
+
+    private static void validate(MatchResult result) {
+        if (result.getMatchId() == null || result.getTeams() == null || result.getTeams().isEmpty()) {
+            throw new IllegalArgumentException("A match result needs a matchId and at least one team");
+        }
+        Set<String> teamIds = new HashSet<>();
+        for (MatchResult.TeamResult team : result.getTeams()) {
+            if (team.getTeamId() == null || team.getPlacement() < 1 || team.getKills() < 0) {
+                throw new IllegalArgumentException("Each team needs a teamId, a placement of 1 or more and non-negative kills");
+            }
+            if (!teamIds.add(team.getTeamId())) {
+                throw new IllegalArgumentException("Team " + team.getTeamId() + " is listed twice");
+            }
+        }
+    }
+}
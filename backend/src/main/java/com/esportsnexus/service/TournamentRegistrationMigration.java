@@ -0,0 +1,73 @@
+package com.esportsnexus.service;
+
+import com.esportsnexus.model.Tournament;
+import com.esportsnexus.model.TournamentRegistration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves team lists still embedded as registeredTeamIds into tournament_registrations
+ * and replaces them with registeredTeamCount. Safe to run repeatedly: registrations
+ * are upserted and each tournament is only touched while it still has the old field.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TournamentRegistrationMigration {
+
+    private static final String LEGACY_FIELD = "registeredTeamIds";
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        String collection = mongoTemplate.getCollectionName(Tournament.class);
+        Query legacyQuery = Query.query(Criteria.where(LEGACY_FIELD).exists(true));
+        legacyQuery.fields().include(LEGACY_FIELD);
+
+        int migrated = 0;
+        for (Document tournament : mongoTemplate.find(legacyQuery, Document.class, collection)) {
+            try {
+                migrate(collection, tournament.get("_id"), tournament.getList(LEGACY_FIELD, String.class));
+                migrated++;
+            } catch (Exception e) {
+                log.warn("Error migrating registrations of tournament {}: {}", tournament.get("_id"), e.getMessage());
+            }
+        }
+        if (migrated > 0) {
+            log.info("Migrated registrations of {} tournaments", migrated);
+        }
+    }
+
+    private void migrate(String collection, Object id, List<String> teamIds) {
+        String tournamentId = id.toString();
+        if (teamIds != null && !teamIds.isEmpty()) {
+            BulkOperations upserts = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                TournamentRegistration.class);
+            LocalDateTime now = LocalDateTime.now();
+            teamIds.forEach(teamId -> upserts.upsert(
+                Query.query(Criteria.where("tournamentId").is(tournamentId).and("teamId").is(teamId)),
+                new Update().setOnInsert("registeredAt", now)));
+            upserts.execute();
+        }
+
+        long count = mongoTemplate.count(Query.query(Criteria.where("tournamentId").is(tournamentId)),
+            TournamentRegistration.class);
+        mongoTemplate.updateFirst(
+            Query.query(Criteria.where("_id").is(id).and(LEGACY_FIELD).exists(true)),
+            new Update().set("registeredTeamCount", count).unset(LEGACY_FIELD),
+            collection);
+    }
+}
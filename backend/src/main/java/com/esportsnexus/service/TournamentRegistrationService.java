@@ -0,0 +1,125 @@
+package com.esportsnexus.service;
+
+import com.esportsnexus.repository.TournamentRepository;
+import com.esportsnexus.repository.TournamentRepositoryCustom.RegistrationOutcome;
+import com.esportsnexus.service.pubg.MicroBatcher;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission layer in front of tournament registration. Registrations for the same
+ * tournament are collected for a few milliseconds and committed together (one
+ * slot reservation and one bulk insert), one batch at a time per tournament, so a
+ * registration storm turns into a short sequence of writes instead of thousands of
+ * updates racing on one document. Callers beyond max-pending are turned away with
+ * BUSY, and once a tournament is known to be full or closed, further callers are
+ * answered without touching the database for full-backoff-ms.
+ */
+@Slf4j
+@Service
+public class TournamentRegistrationService {
+
+    private final TournamentRepository tournamentRepository;
+    private final int maxBatchSize;
+    private final long batchWindowMs;
+    private final int maxPending;
+    private final long fullBackoffMs;
+
+    // tournamentId -> admission queue, kept while any caller is inside it so that
+    // one instance serializes all commits of a tournament; idle queues are dropped
+    private final Map<String, Admission> admissions = new ConcurrentHashMap<>();
+
+    // tournamentId -> last FULL or CLOSED answer, repeated without a lookup until it expires
+    private final Cache<String, RegistrationOutcome> rejections;
+
+    public TournamentRegistrationService(TournamentRepository tournamentRepository,
+                                         @Value("${tournament.registration.max-batch-size:100}") int maxBatchSize,
+                                         @Value("${tournament.registration.batch-window-ms:5}") long batchWindowMs,
+                                         @Value("${tournament.registration.max-pending:2000}") int maxPending,
+                                         @Value("${tournament.registration.full-backoff-ms:2000}") long fullBackoffMs) {
+        this.tournamentRepository = tournamentRepository;
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindowMs = batchWindowMs;
+        this.maxPending = maxPending;
+        this.fullBackoffMs = fullBackoffMs;
+        this.rejections = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(fullBackoffMs))
+                .build();
+    }
+
+    public RegistrationOutcome register(String tournamentId, String teamId) {
+        RegistrationOutcome rejection = rejections.getIfPresent(tournamentId);
+        if (rejection != null) {
+            return rejection;
+        }
+        Admission admission = admissions.compute(tournamentId, (id, current) -> {
+            Admission pinned = current != null ? current : new Admission(id);
+            pinned.pending.incrementAndGet();
+            return pinned;
+        });
+        try {
+            return admission.register(teamId);
+        } finally {
+            admissions.computeIfPresent(tournamentId,
+                    (id, current) -> current.pending.decrementAndGet() == 0 ? null : current);
+        }
+    }
+
+    private class Admission {
+        private final String tournamentId;
+        private final MicroBatcher<String, RegistrationOutcome> batcher;
+        // Callers inside this queue; only changed under admissions.compute for its key
+        private final AtomicInteger pending = new AtomicInteger();
+        // Teams with a registration in progress; the batcher would otherwise merge a
+        // second request for the same team into the first and report both REGISTERED
+        private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+        private Admission(String tournamentId) {
+            this.tournamentId = tournamentId;
+            this.batcher = new MicroBatcher<>(maxBatchSize, batchWindowMs, this::commit);
+        }
+
+        private RegistrationOutcome register(String teamId) {
+            if (pending.get() > maxPending) {
+                return RegistrationOutcome.BUSY;
+            }
+            // The first request for this team may still end FULL, CLOSED or BUSY, so
+            // the second one cannot be told DUPLICATE yet; it is asked to retry instead
+            if (!inFlight.add(teamId)) {
+                return RegistrationOutcome.BUSY;
+            }
+            try {
+                return batcher.load(teamId);
+            } finally {
+                inFlight.remove(teamId);
+            }
+        }
+
+        /**
+         * Batches of one tournament are committed one after another; batches of
+         * different tournaments still run in parallel
+         */
+        private synchronized Map<String, RegistrationOutcome> commit(List<String> teamIds) {
+            Map<String, RegistrationOutcome> outcomes = tournamentRepository.registerTeams(tournamentId, teamIds);
+            outcomes.values().stream()
+                    .filter(outcome -> outcome == RegistrationOutcome.FULL || outcome == RegistrationOutcome.CLOSED)
+                    .findFirst()
+                    .ifPresent(outcome -> {
+                        rejections.put(tournamentId, outcome);
+                        log.debug("Tournament {} is {}; rejecting registrations for {} ms",
+                                tournamentId, outcome, fullBackoffMs);
+                    });
+            return outcomes;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.esportsnexus.service.pubg;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Repairs the missing commas in PUBG players responses while they are read.
+ * A comma is inserted only where one value ends and another begins outside of a
+ * string literal, so well-formed JSON passes through byte for byte. Runs in a
+ * single pass over the stream with one fixed read buffer.
+ */
+public class LenientJsonInputStream extends InputStream {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private int pending = -1;
+    private boolean inString;
+    private boolean escaped;
+    private boolean inLiteral;
+    private boolean afterValue;
+
+    public LenientJsonInputStream(InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (pending >= 0) {
+            int b = pending;
+            pending = -1;
+            return b;
+        }
+
+        int b = nextByte();
+        if (b < 0) {
+            return -1;
+        }
+
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (b == '\\') {
+                escaped = true;
+            } else if (b == '"') {
+                inString = false;
+                afterValue = true;
+            }
+            return b;
+        }
+
+        if (inLiteral) {
+            if (isLiteralPart(b)) {
+                return b;
+            }
+            inLiteral = false;
+            afterValue = true;
+        }
+
+        if (isWhitespace(b)) {
+            return b;
+        }
+
+        if (afterValue && isValueStart(b)) {
+            // A value directly follows another one: emit the missing separator first
+            pending = b;
+            track(b);
+            return ',';
+        }
+
+        track(b);
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int count = 0;
+        while (count < len) {
+            // Only block on the underlying stream for the first byte
+            if (count > 0 && pending < 0 && position >= limit && in.available() <= 0) {
+                break;
+            }
+            int next = read();
+            if (next < 0) {
+                break;
+            }
+            b[off + count++] = (byte) next;
+        }
+        return count == 0 ? -1 : count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private int nextByte() throws IOException {
+        if (position >= limit) {
+            limit = in.read(buffer, 0, BUFFER_SIZE);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    private void track(int b) {
+        afterValue = false;
+        switch (b) {
+            case '"' -> inString = true;
+            case '}', ']' -> afterValue = true;
+            default -> inLiteral = isLiteralStart(b);
+        }
+    }
+
+    private static boolean isValueStart(int b) {
+        return b == '"' || b == '{' || b == '[' || isLiteralStart(b);
+    }
+
+    private static boolean isLiteralStart(int b) {
+        return (b >= '0' && b <= '9') || b == '-' || b == 't' || b == 'f' || b == 'n';
+    }
+
+    private static boolean isLiteralPart(int b) {
+        return (b >= '0' && b <= '9') || (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z')
+            || b == '-' || b == '+' || b == '.';
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+}
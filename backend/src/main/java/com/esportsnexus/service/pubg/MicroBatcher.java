@@ -0,0 +1,106 @@
+package com.esportsnexus.service.pubg;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Collects individual key lookups for a short window and resolves them with one
+ * batch call. The first caller of a batch acts as its leader: it waits for the
+ * window to pass (or the batch to fill up) and then runs the batch call on its own
+ * thread, so no extra threads are needed and batches cannot starve a shared pool.
+ */
+public class MicroBatcher<K, V> {
+
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final Function<List<K>, Map<K, V>> batchLoader;
+
+    private Batch current;
+
+    public MicroBatcher(int maxBatchSize, long windowMs, Function<List<K>, Map<K, V>> batchLoader) {
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.batchLoader = batchLoader;
+    }
+
+    public V load(K key) {
+        Batch batch;
+        CompletableFuture<V> result;
+        boolean leader = false;
+        boolean full = false;
+
+        synchronized (this) {
+            if (current == null) {
+                current = new Batch();
+                leader = true;
+            }
+            batch = current;
+            result = batch.pending.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (batch.pending.size() >= maxBatchSize) {
+                current = null;
+                full = true;
+            }
+        }
+
+        if (full) {
+            batch.filled.countDown();
+            batch.dispatch();
+        } else if (leader) {
+            awaitWindow(batch);
+            synchronized (this) {
+                if (current == batch) {
+                    current = null;
+                }
+            }
+            batch.dispatch();
+        }
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void awaitWindow(Batch batch) {
+        try {
+            batch.filled.await(windowNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class Batch {
+        // Guarded by MicroBatcher.this until the batch is detached from current
+        private final Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+        private final CountDownLatch filled = new CountDownLatch(1);
+        private final AtomicBoolean dispatched = new AtomicBoolean();
+
+        private void dispatch() {
+            if (!dispatched.compareAndSet(false, true)) {
+                return;
+            }
+            Map<K, CompletableFuture<V>> requests;
+            synchronized (MicroBatcher.this) {
+                requests = new LinkedHashMap<>(pending);
+            }
+            try {
+                Map<K, V> results = batchLoader.apply(new ArrayList<>(requests.keySet()));
+                requests.forEach((key, future) -> future.complete(results.get(key)));
+            } catch (RuntimeException | Error e) {
+                requests.values().forEach(future -> future.completeExceptionally(e));
+            }
+        }
+    }
+}
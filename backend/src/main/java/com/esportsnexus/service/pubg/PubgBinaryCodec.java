@@ -0,0 +1,499 @@
+package com.esportsnexus.service.pubg;
+
+import com.esportsnexus.dto.pubg.PubgGameModeStatsDto;
+import com.esportsnexus.dto.pubg.PubgLifetimeStatsDto;
+import com.esportsnexus.dto.pubg.PubgMatchDto;
+import com.esportsnexus.dto.pubg.PubgParticipantDto;
+import com.esportsnexus.dto.pubg.PubgPlayerDto;
+import com.esportsnexus.dto.pubg.PubgSeasonStatsDto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding for the cached PUBG DTOs.
+ *
+ * <p>Every payload starts with a format version and a type tag. Ints are zigzag
+ * varints; doubles with an integral value (most distances and points are 0) are
+ * varints too, anything else is stored as 8 raw bytes. Strings are deduplicated
+ * per payload through a back-reference table, and lowercase UUIDs (match and
+ * participant IDs) are stored as 16 bytes. Match participants are written column
+ * by column so similar values sit together.
+ *
+ * <p>Fields are only ever appended. A change bumps {@link #VERSION} and the
+ * decoder keeps reading older versions; payloads from a newer version are
+ * rejected so callers treat them as cache misses.
+ */
+public class PubgBinaryCodec {
+
+    public static final int VERSION = 1;
+
+    private static final int TYPE_STRING = 1;
+    private static final int TYPE_PLAYER = 2;
+    private static final int TYPE_PLAYER_LIST = 3;
+    private static final int TYPE_SEASON_STATS = 4;
+    private static final int TYPE_LIFETIME_STATS = 5;
+    private static final int TYPE_MATCH = 6;
+
+    // String markers; larger values reference the string table at (marker - STRING_REF)
+    private static final int STRING_NULL = 0;
+    private static final int STRING_UTF8 = 1;
+    private static final int STRING_UUID = 2;
+    private static final int STRING_REF = 3;
+
+    public boolean supports(Object value) {
+        if (value instanceof String || value instanceof PubgPlayerDto
+            || value instanceof PubgSeasonStatsDto || value instanceof PubgMatchDto) {
+            return true;
+        }
+        if (value instanceof List<?> list) {
+            return list.stream().allMatch(element -> element instanceof PubgPlayerDto);
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Object value) {
+        Writer out = new Writer();
+        out.writeByte(VERSION);
+        if (value instanceof String string) {
+            out.writeByte(TYPE_STRING);
+            out.writeString(string);
+        } else if (value instanceof PubgPlayerDto player) {
+            out.writeByte(TYPE_PLAYER);
+            writePlayer(out, player);
+        } else if (value instanceof List<?> list && supports(list)) {
+            out.writeByte(TYPE_PLAYER_LIST);
+            out.writeCount(list.size());
+            for (PubgPlayerDto player : (List<PubgPlayerDto>) list) {
+                writePlayer(out, player);
+            }
+        } else if (value instanceof PubgSeasonStatsDto stats) {
+            out.writeByte(stats instanceof PubgLifetimeStatsDto ? TYPE_LIFETIME_STATS : TYPE_SEASON_STATS);
+            writeStats(out, stats);
+        } else if (value instanceof PubgMatchDto match) {
+            out.writeByte(TYPE_MATCH);
+            writeMatch(out, match);
+        } else {
+            throw new IllegalArgumentException("Cannot encode " + (value == null ? "null" : value.getClass().getName()));
+        }
+        return out.toByteArray();
+    }
+
+    public Object decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes the payload between the buffer's position and limit without moving them
+     */
+    public Object decode(ByteBuffer buffer) {
+        Reader in = new Reader(buffer.duplicate());
+        int version = in.readByte();
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("Unsupported PUBG payload version " + version);
+        }
+        int type = in.readByte();
+        return switch (type) {
+            case TYPE_STRING -> in.readString();
+            case TYPE_PLAYER -> readPlayer(in);
+            case TYPE_PLAYER_LIST -> {
+                int count = in.readCount();
+                List<PubgPlayerDto> players = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    players.add(readPlayer(in));
+                }
+                yield players;
+            }
+            case TYPE_SEASON_STATS -> readStats(in, new PubgSeasonStatsDto());
+            case TYPE_LIFETIME_STATS -> readStats(in, new PubgLifetimeStatsDto());
+            case TYPE_MATCH -> readMatch(in);
+            default -> throw new IllegalArgumentException("Unknown PUBG payload type " + type);
+        };
+    }
+
+    private void writePlayer(Writer out, PubgPlayerDto player) {
+        out.writeString(player.getId());
+        out.writeString(player.getName());
+        out.writeString(player.getShardId());
+        out.writeString(player.getCreatedAt());
+        out.writeString(player.getUpdatedAt());
+        List<String> matchIds = player.getMatchIds();
+        out.writeCount(matchIds == null ? -1 : matchIds.size());
+        if (matchIds != null) {
+            matchIds.forEach(out::writeString);
+        }
+    }
+
+    private PubgPlayerDto readPlayer(Reader in) {
+        PubgPlayerDto player = new PubgPlayerDto();
+        player.setId(in.readString());
+        player.setName(in.readString());
+        player.setShardId(in.readString());
+        player.setCreatedAt(in.readString());
+        player.setUpdatedAt(in.readString());
+        int count = in.readCount();
+        if (count >= 0) {
+            List<String> matchIds = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                matchIds.add(in.readString());
+            }
+            player.setMatchIds(matchIds);
+        }
+        return player;
+    }
+
+    private void writeStats(Writer out, PubgSeasonStatsDto stats) {
+        out.writeString(stats.getSeasonId());
+        Map<String, PubgGameModeStatsDto> modes = stats.getGameModeStats();
+        out.writeCount(modes == null ? -1 : modes.size());
+        if (modes == null) {
+            return;
+        }
+        for (Map.Entry<String, PubgGameModeStatsDto> mode : modes.entrySet()) {
+            out.writeString(mode.getKey());
+            PubgGameModeStatsDto s = mode.getValue();
+            out.writeInt(s.getAssists());
+            out.writeInt(s.getBoosts());
+            out.writeInt(s.getDBNOs());
+            out.writeInt(s.getDailyKills());
+            out.writeInt(s.getDailyWins());
+            out.writeDouble(s.getDamageDealt());
+            out.writeInt(s.getDays());
+            out.writeInt(s.getHeadshotKills());
+            out.writeInt(s.getHeals());
+            out.writeDouble(s.getKillPoints());
+            out.writeInt(s.getKills());
+            out.writeDouble(s.getLongestKill());
+            out.writeDouble(s.getLongestTimeSurvived());
+            out.writeInt(s.getLosses());
+            out.writeInt(s.getMaxKillStreaks());
+            out.writeDouble(s.getMostSurvivalTime());
+            out.writeDouble(s.getRankPoints());
+            out.writeString(s.getRankPointsTitle());
+            out.writeInt(s.getRevives());
+            out.writeDouble(s.getRideDistance());
+            out.writeInt(s.getRoadKills());
+            out.writeInt(s.getRoundMostKills());
+            out.writeInt(s.getRoundsPlayed());
+            out.writeInt(s.getSuicides());
+            out.writeDouble(s.getSwimDistance());
+            out.writeInt(s.getTeamKills());
+            out.writeDouble(s.getTimeSurvived());
+            out.writeInt(s.getTop10s());
+            out.writeInt(s.getVehicleDestroys());
+            out.writeDouble(s.getWalkDistance());
+            out.writeInt(s.getWeaponsAcquired());
+            out.writeInt(s.getWeeklyKills());
+            out.writeInt(s.getWeeklyWins());
+            out.writeDouble(s.getWinPoints());
+            out.writeInt(s.getWins());
+        }
+    }
+
+    private <T extends PubgSeasonStatsDto> T readStats(Reader in, T stats) {
+        stats.setSeasonId(in.readString());
+        int count = in.readCount();
+        if (count < 0) {
+            return stats;
+        }
+        Map<String, PubgGameModeStatsDto> modes = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            String mode = in.readString();
+            PubgGameModeStatsDto s = new PubgGameModeStatsDto();
+            s.setAssists(in.readInt());
+            s.setBoosts(in.readInt());
+            s.setDBNOs(in.readInt());
+            s.setDailyKills(in.readInt());
+            s.setDailyWins(in.readInt());
+            s.setDamageDealt(in.readDouble());
+            s.setDays(in.readInt());
+            s.setHeadshotKills(in.readInt());
+            s.setHeals(in.readInt());
+            s.setKillPoints(in.readDouble());
+            s.setKills(in.readInt());
+            s.setLongestKill(in.readDouble());
+            s.setLongestTimeSurvived(in.readDouble());
+            s.setLosses(in.readInt());
+            s.setMaxKillStreaks(in.readInt());
+            s.setMostSurvivalTime(in.readDouble());
+            s.setRankPoints(in.readDouble());
+            s.setRankPointsTitle(in.readString());
+            s.setRevives(in.readInt());
+            s.setRideDistance(in.readDouble());
+            s.setRoadKills(in.readInt());
+            s.setRoundMostKills(in.readInt());
+            s.setRoundsPlayed(in.readInt());
+            s.setSuicides(in.readInt());
+            s.setSwimDistance(in.readDouble());
+            s.setTeamKills(in.readInt());
+            s.setTimeSurvived(in.readDouble());
+            s.setTop10s(in.readInt());
+            s.setVehicleDestroys(in.readInt());
+            s.setWalkDistance(in.readDouble());
+            s.setWeaponsAcquired(in.readInt());
+            s.setWeeklyKills(in.readInt());
+            s.setWeeklyWins(in.readInt());
+            s.setWinPoints(in.readDouble());
+            s.setWins(in.readInt());
+            modes.put(mode, s);
+        }
+        stats.setGameModeStats(modes);
+        return stats;
+    }
+
+    private void writeMatch(Writer out, PubgMatchDto match) {
+        out.writeString(match.getId());
+        out.writeString(match.getCreatedAt());
+        out.writeInt(match.getDuration());
+        out.writeString(match.getGameMode());
+        out.writeString(match.getMapName());
+        out.writeString(match.getMatchType());
+        out.writeString(match.getShardId());
+        out.writeString(match.getTitleId());
+        out.writeString(match.getTelemetryUrl());
+
+        List<PubgParticipantDto> participants = match.getParticipants();
+        out.writeCount(participants == null ? -1 : participants.size());
+        if (participants == null) {
+            return;
+        }
+        participants.forEach(p -> out.writeString(p.getId()));
+        participants.forEach(p -> out.writeString(p.getName()));
+        participants.forEach(p -> out.writeString(p.getPlayerId()));
+        participants.forEach(p -> out.writeInt(p.getKills()));
+        participants.forEach(p -> out.writeInt(p.getAssists()));
+        participants.forEach(p -> out.writeDouble(p.getDamageDealt()));
+        participants.forEach(p -> out.writeInt(p.getWinPlace()));
+        participants.forEach(p -> out.writeDouble(p.getTimeSurvived()));
+        participants.forEach(p -> out.writeInt(p.getHeadshotKills()));
+        participants.forEach(p -> out.writeDouble(p.getLongestKill()));
+        participants.forEach(p -> out.writeInt(p.getRevives()));
+        participants.forEach(p -> out.writeInt(p.getTeamKills()));
+        participants.forEach(p -> out.writeDouble(p.getWalkDistance()));
+        participants.forEach(p -> out.writeDouble(p.getSwimDistance()));
+        participants.forEach(p -> out.writeDouble(p.getRideDistance()));
+    }
+
+    private PubgMatchDto readMatch(Reader in) {
+        PubgMatchDto match = new PubgMatchDto();
+        match.setId(in.readString());
+        match.setCreatedAt(in.readString());
+        match.setDuration(in.readInt());
+        match.setGameMode(in.readString());
+        match.setMapName(in.readString());
+        match.setMatchType(in.readString());
+        match.setShardId(in.readString());
+        match.setTitleId(in.readString());
+        match.setTelemetryUrl(in.readString());
+
+        int count = in.readCount();
+        if (count < 0) {
+            return match;
+        }
+        List<PubgParticipantDto> participants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            participants.add(new PubgParticipantDto());
+        }
+        participants.forEach(p -> p.setId(in.readString()));
+        participants.forEach(p -> p.setName(in.readString()));
+        participants.forEach(p -> p.setPlayerId(in.readString()));
+        participants.forEach(p -> p.setKills(in.readInt()));
+        participants.forEach(p -> p.setAssists(in.readInt()));
+        participants.forEach(p -> p.setDamageDealt(in.readDouble()));
+        participants.forEach(p -> p.setWinPlace(in.readInt()));
+        participants.forEach(p -> p.setTimeSurvived(in.readDouble()));
+        participants.forEach(p -> p.setHeadshotKills(in.readInt()));
+        participants.forEach(p -> p.setLongestKill(in.readDouble()));
+        participants.forEach(p -> p.setRevives(in.readInt()));
+        participants.forEach(p -> p.setTeamKills(in.readInt()));
+        participants.forEach(p -> p.setWalkDistance(in.readDouble()));
+        participants.forEach(p -> p.setSwimDistance(in.readDouble()));
+        participants.forEach(p -> p.setRideDistance(in.readDouble()));
+        match.setParticipants(participants);
+        return match;
+    }
+
+    private static boolean isUuid(String value) {
+        if (value.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                // UUID.toString() is lowercase, so only lowercase round-trips exactly
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Writer {
+        private byte[] buffer = new byte[256];
+        private int size;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        void writeByte(int b) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) b;
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        void writeInt(int value) {
+            writeVarLong(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+        }
+
+        // Counts are stored +1 so that -1 can stand for a null collection
+        void writeCount(int count) {
+            writeVarLong(count + 1L);
+        }
+
+        void writeLongBits(long bits) {
+            for (int i = 0; i < 8; i++) {
+                writeByte((int) (bits >>> (i * 8)));
+            }
+        }
+
+        /**
+         * Low bit 0: zigzag varint of an integral value; low bit 1: raw IEEE 754 bits follow
+         */
+        void writeDouble(double value) {
+            long integral = (long) value;
+            if (integral == value && Math.abs(integral) < (1L << 40)
+                && Double.doubleToRawLongBits(value) != Double.doubleToRawLongBits(-0.0)) {
+                writeVarLong(((integral << 1) ^ (integral >> 63)) << 1);
+            } else {
+                writeByte(1);
+                writeLongBits(Double.doubleToRawLongBits(value));
+            }
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(STRING_NULL);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarLong(STRING_REF + (long) index);
+                return;
+            }
+            strings.put(value, strings.size());
+            if (isUuid(value)) {
+                UUID uuid = UUID.fromString(value);
+                writeVarLong(STRING_UUID);
+                writeLongBits(uuid.getMostSignificantBits());
+                writeLongBits(uuid.getLeastSignificantBits());
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(STRING_UTF8);
+                writeVarLong(bytes.length);
+                ensureCapacity(bytes.length);
+                System.arraycopy(bytes, 0, buffer, size, bytes.length);
+                size += bytes.length;
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private final List<String> strings = new ArrayList<>();
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int readByte() {
+            return buffer.get() & 0xFF;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in PUBG payload");
+        }
+
+        int readInt() {
+            int zigzag = (int) readVarLong();
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        int readCount() {
+            return (int) (readVarLong() - 1);
+        }
+
+        long readLongBits() {
+            long bits = 0;
+            for (int i = 0; i < 8; i++) {
+                bits |= (long) readByte() << (i * 8);
+            }
+            return bits;
+        }
+
+        double readDouble() {
+            long value = readVarLong();
+            if ((value & 1) == 1) {
+                return Double.longBitsToDouble(readLongBits());
+            }
+            long zigzag = value >>> 1;
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        String readString() {
+            long marker = readVarLong();
+            if (marker == STRING_NULL) {
+                return null;
+            }
+            if (marker >= STRING_REF) {
+                return strings.get((int) (marker - STRING_REF));
+            }
+            String value;
+            if (marker == STRING_UUID) {
+                long most = readLongBits();
+                long least = readLongBits();
+                value = new UUID(most, least).toString();
+            } else {
+                int length = (int) readVarLong();
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+            }
+            strings.add(value);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.esportsnexus.service.pubg;
+
+import com.esportsnexus.dto.pubg.PubgMatchDto;
+import com.esportsnexus.dto.pubg.PubgParticipantDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming parser for PUBG match documents. Reads tokens straight from the
+ * response stream and materializes only the match attributes, participant stats
+ * and telemetry URL; rosters and everything else in {@code included} are skipped
+ * without building a tree.
+ */
+public class PubgMatchParser {
+
+    private final JsonFactory jsonFactory;
+
+    public PubgMatchParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public PubgMatchDto parse(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected match document to be a JSON object");
+            }
+
+            PubgMatchDto match = new PubgMatchDto();
+            List<PubgParticipantDto> participants = new ArrayList<>();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                    case "data" -> readData(parser, match);
+                    case "included" -> readIncluded(parser, match, participants);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (match.getId() == null) {
+                throw new IOException("Match document has no data.id");
+            }
+            match.setParticipants(participants);
+            return match;
+        }
+    }
+
+    private void readData(JsonParser parser, PubgMatchDto match) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> match.setId(parser.getValueAsString());
+                case "attributes" -> readMatchAttributes(parser, match);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readMatchAttributes(JsonParser parser, PubgMatchDto match) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "createdAt" -> match.setCreatedAt(parser.getValueAsString());
+                case "duration" -> match.setDuration(parser.getValueAsInt());
+                case "gameMode" -> match.setGameMode(parser.getValueAsString());
+                case "mapName" -> match.setMapName(parser.getValueAsString());
+                case "matchType" -> match.setMatchType(parser.getValueAsString());
+                case "shardId" -> match.setShardId(parser.getValueAsString());
+                case "titleId" -> match.setTitleId(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readIncluded(JsonParser parser, PubgMatchDto match,
+                              List<PubgParticipantDto> participants) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token == JsonToken.START_OBJECT) {
+                readIncludedResource(parser, match, participants);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Reads one included resource. The type field usually comes first, but the
+     * attributes are read defensively in case it does not.
+     */
+    private void readIncludedResource(JsonParser parser, PubgMatchDto match,
+                                      List<PubgParticipantDto> participants) throws IOException {
+        String type = null;
+        String id = null;
+        PubgParticipantDto participant = null;
+        String assetUrl = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "type" -> type = parser.getValueAsString();
+                case "id" -> id = parser.getValueAsString();
+                case "attributes" -> {
+                    if (type != null && !"participant".equals(type) && !"asset".equals(type)) {
+                        parser.skipChildren();
+                        break;
+                    }
+                    ResourceAttributes attributes = readResourceAttributes(parser);
+                    participant = attributes.participant;
+                    assetUrl = attributes.url;
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if ("participant".equals(type) && participant != null) {
+            participant.setId(id);
+            participants.add(participant);
+        } else if ("asset".equals(type) && assetUrl != null) {
+            match.setTelemetryUrl(assetUrl);
+        }
+    }
+
+    private ResourceAttributes readResourceAttributes(JsonParser parser) throws IOException {
+        ResourceAttributes attributes = new ResourceAttributes();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return attributes;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "stats" -> attributes.participant = readParticipantStats(parser);
+                case "URL" -> attributes.url = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return attributes;
+    }
+
+    private PubgParticipantDto readParticipantStats(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        PubgParticipantDto participant = new PubgParticipantDto();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "name" -> participant.setName(parser.getValueAsString());
+                case "playerId" -> participant.setPlayerId(parser.getValueAsString());
+                case "kills" -> participant.setKills(parser.getValueAsInt());
+                case "assists" -> participant.setAssists(parser.getValueAsInt());
+                case "damageDealt" -> participant.setDamageDealt(parser.getValueAsDouble());
+                case "winPlace" -> participant.setWinPlace(parser.getValueAsInt());
+                case "timeSurvived" -> participant.setTimeSurvived(parser.getValueAsDouble());
+                case "headshotKills" -> participant.setHeadshotKills(parser.getValueAsInt());
+                case "longestKill" -> participant.setLongestKill(parser.getValueAsDouble());
+                case "revives" -> participant.setRevives(parser.getValueAsInt());
+                case "teamKills" -> participant.setTeamKills(parser.getValueAsInt());
+                case "walkDistance" -> participant.setWalkDistance(parser.getValueAsDouble());
+                case "swimDistance" -> participant.setSwimDistance(parser.getValueAsDouble());
+                case "rideDistance" -> participant.setRideDistance(parser.getValueAsDouble());
+                default -> parser.skipChildren();
+            }
+        }
+        return participant;
+    }
+
+    private static class ResourceAttributes {
+        private PubgParticipantDto participant;
+        private String url;
+    }
+}
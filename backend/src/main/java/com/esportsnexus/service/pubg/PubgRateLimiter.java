@@ -0,0 +1,202 @@
+package com.esportsnexus.service.pubg;
+
+import com.esportsnexus.exception.PubgRateLimitException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Client-side token bucket shared by all PUBG API calls. Callers queue by
+ * {@link PubgRequestPriority} and then arrival order; the head of the queue takes
+ * the next token. The bucket is drained when PUBG reports the quota as exhausted,
+ * so no call goes out before X-RateLimit-Reset.
+ */
+@Slf4j
+@Component
+public class PubgRateLimiter {
+
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final String RESET_HEADER = "X-RateLimit-Reset";
+
+    private final int capacity;
+    private final double tokensPerNano;
+    private final long maxWaitNanos;
+    private final long defaultBackoffMs;
+
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final Timer waitTimer;
+
+    private double tokens;
+    private long lastRefill;
+    private long blockedUntil;
+    private long sequence;
+
+    public PubgRateLimiter(@Value("${pubg.api.rate-limit.requests-per-minute:10}") int requestsPerMinute,
+                           @Value("${pubg.api.rate-limit.max-wait-ms:30000}") long maxWaitMs,
+                           @Value("${pubg.api.rate-limit.default-backoff-ms:60000}") long defaultBackoffMs,
+                           MeterRegistry meterRegistry) {
+        this.capacity = requestsPerMinute;
+        this.tokensPerNano = requestsPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.defaultBackoffMs = defaultBackoffMs;
+        this.tokens = requestsPerMinute;
+        this.lastRefill = System.nanoTime();
+        this.blockedUntil = lastRefill;
+
+        this.waitTimer = Timer.builder("pubg.api.rate-limiter.wait")
+            .description("Time spent waiting for a PUBG API rate limit permit")
+            .register(meterRegistry);
+        Gauge.builder("pubg.api.rate-limiter.queue", queueDepth, AtomicInteger::get)
+            .description("Callers waiting for a PUBG API rate limit permit")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Block until a permit is available for the current thread's priority.
+     *
+     * @throws PubgRateLimitException if no permit becomes available within max-wait-ms,
+     *         or before the current {@link PubgRequestDeadline}
+     */
+    public void acquire() {
+        acquire(PubgRequestPriority.current());
+    }
+
+    public void acquire(PubgRequestPriority priority) {
+        long start = System.nanoTime();
+        long giveUpAt = start + maxWaitNanos;
+        Long deadline = PubgRequestDeadline.current();
+        if (deadline != null && deadline - giveUpAt < 0) {
+            giveUpAt = deadline;
+        }
+        queueDepth.incrementAndGet();
+        try {
+            synchronized (this) {
+                Waiter waiter = new Waiter(priority, sequence++);
+                waiters.add(waiter);
+                try {
+                    awaitTurn(waiter, giveUpAt);
+                } finally {
+                    waiters.remove(waiter);
+                    notifyAll();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PubgRateLimitException("Interrupted while waiting for PUBG API rate limit", 1);
+        } finally {
+            queueDepth.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Align the bucket with the quota PUBG reports on a successful response.
+     */
+    public synchronized void onResponse(HttpHeaders headers) {
+        String remaining = headers.getFirst(REMAINING_HEADER);
+        if (remaining == null) {
+            return;
+        }
+        try {
+            int left = Integer.parseInt(remaining.trim());
+            tokens = Math.min(tokens, left);
+            if (left <= 0) {
+                backOff(headers);
+            }
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring unparseable {} header: {}", REMAINING_HEADER, remaining);
+        }
+    }
+
+    /**
+     * Stop issuing permits until X-RateLimit-Reset, or for the default backoff when the header is missing.
+     */
+    public synchronized void backOff(HttpHeaders headers) {
+        long delayMs = resetDelayMs(headers);
+        long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+        if (until - blockedUntil > 0) {
+            blockedUntil = until;
+        }
+        tokens = 0;
+        log.warn("PUBG API rate limit reached, backing off for {}ms", delayMs);
+        notifyAll();
+    }
+
+    /**
+     * Whole seconds until the next permit could be issued, at least 1; used for Retry-After
+     */
+    public synchronized long retryAfterSeconds() {
+        long now = System.nanoTime();
+        refill(now);
+        return secondsUntilPermit(now);
+    }
+
+    private void awaitTurn(Waiter waiter, long giveUpAt) throws InterruptedException {
+        while (true) {
+            long now = System.nanoTime();
+            refill(now);
+
+            boolean head = waiters.peek() == waiter;
+            if (head && now - blockedUntil >= 0 && tokens >= 1) {
+                tokens -= 1;
+                return;
+            }
+
+            long remaining = giveUpAt - now;
+            long waitNanos = head ? nanosUntilPermit(now) : remaining;
+            // The head knows when its permit comes; if that is past the deadline, waiting is wasted
+            if (remaining <= 0 || (head && waitNanos > remaining)) {
+                throw new PubgRateLimitException("Timed out waiting for PUBG API rate limit",
+                    secondsUntilPermit(now));
+            }
+
+            TimeUnit.NANOSECONDS.timedWait(this, Math.max(1, Math.min(waitNanos, remaining)));
+        }
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+
+    private long nanosUntilPermit(long now) {
+        long untilUnblocked = Math.max(0, blockedUntil - now);
+        long untilToken = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+        return Math.max(untilUnblocked, untilToken);
+    }
+
+    private long secondsUntilPermit(long now) {
+        return Math.max(1, (long) Math.ceil(nanosUntilPermit(now) / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private long resetDelayMs(HttpHeaders headers) {
+        String reset = headers != null ? headers.getFirst(RESET_HEADER) : null;
+        if (reset != null) {
+            try {
+                // PUBG sends the reset time as epoch seconds
+                long resetAtMs = Long.parseLong(reset.trim()) * 1000;
+                return Math.max(0, resetAtMs - System.currentTimeMillis());
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring unparseable {} header: {}", RESET_HEADER, reset);
+            }
+        }
+        return defaultBackoffMs;
+    }
+
+    private record Waiter(PubgRequestPriority priority, long sequence) implements Comparable<Waiter> {
+        @Override
+        public int compareTo(Waiter other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.esportsnexus.service.pubg;
+
+import java.util.function.Supplier;
+
+/**
+ * Deadline (System.nanoTime) of the request the current thread is working for.
+ * Work submitted on behalf of a caller that stops waiting is wrapped in
+ * {@link #runBefore}, so the rate limiter gives up by the time nobody needs the
+ * result instead of holding a pubgExecutor thread for the full max-wait-ms.
+ */
+public final class PubgRequestDeadline {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private PubgRequestDeadline() {
+    }
+
+    /**
+     * Deadline of the current thread's request, or null when it has none
+     */
+    public static Long current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T runBefore(long deadlineNanos, Supplier<T> task) {
+        Long previous = CURRENT.get();
+        CURRENT.set(deadlineNanos);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
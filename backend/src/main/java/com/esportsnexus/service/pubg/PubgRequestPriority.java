@@ -0,0 +1,29 @@
+package com.esportsnexus.service.pubg;
+
+import java.util.function.Supplier;
+
+/**
+ * Priority of outbound PUBG API calls made on the current thread. Calls default to
+ * INTERACTIVE; background jobs wrap their work in {@link #runAs} so user-facing
+ * lookups are served first when the rate limit is saturated.
+ */
+public enum PubgRequestPriority {
+    INTERACTIVE,
+    BACKGROUND;
+
+    private static final ThreadLocal<PubgRequestPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    public static PubgRequestPriority current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T runAs(PubgRequestPriority priority, Supplier<T> task) {
+        PubgRequestPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return task.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.esportsnexus.service.pubg;
+
+import com.esportsnexus.dto.pubg.PubgGameModeStatsDto;
+import com.esportsnexus.dto.pubg.PubgSeasonStatsDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Streaming parser for PUBG season and lifetime stats responses. Game mode stats
+ * are read token by token into {@link PubgGameModeStatsDto} primitives.
+ */
+public class PubgStatsParser {
+
+    private final JsonFactory jsonFactory;
+
+    public PubgStatsParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public <T extends PubgSeasonStatsDto> T parse(InputStream in, T stats) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected stats document to be a JSON object");
+            }
+
+            stats.setGameModeStats(new LinkedHashMap<>());
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("data".equals(field)) {
+                    readData(parser, stats);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return stats;
+        }
+    }
+
+    private void readData(JsonParser parser, PubgSeasonStatsDto stats) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> stats.setSeasonId(parser.getValueAsString());
+                case "attributes" -> readAttributes(parser, stats.getGameModeStats());
+                case "relationships" -> readRelationships(parser, stats);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readAttributes(JsonParser parser, Map<String, PubgGameModeStatsDto> modes) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("gameModeStats".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String mode = parser.getCurrentName();
+                    parser.nextToken();
+                    PubgGameModeStatsDto modeStats = readModeStats(parser);
+                    if (modeStats != null) {
+                        modes.put(mode, modeStats);
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Falls back to relationships.season.data.id when the document has no top-level id
+     */
+    private void readRelationships(JsonParser parser, PubgSeasonStatsDto stats) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("season".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String seasonField = parser.getCurrentName();
+                    parser.nextToken();
+                    if ("data".equals(seasonField) && parser.currentToken() == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String dataField = parser.getCurrentName();
+                            parser.nextToken();
+                            if ("id".equals(dataField) && stats.getSeasonId() == null) {
+                                stats.setSeasonId(parser.getValueAsString());
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private PubgGameModeStatsDto readModeStats(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        PubgGameModeStatsDto stats = new PubgGameModeStatsDto();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "assists" -> stats.setAssists(parser.getValueAsInt());
+                case "boosts" -> stats.setBoosts(parser.getValueAsInt());
+                case "dBNOs" -> stats.setDBNOs(parser.getValueAsInt());
+                case "dailyKills" -> stats.setDailyKills(parser.getValueAsInt());
+                case "dailyWins" -> stats.setDailyWins(parser.getValueAsInt());
+                case "damageDealt" -> stats.setDamageDealt(parser.getValueAsDouble());
+                case "days" -> stats.setDays(parser.getValueAsInt());
+                case "headshotKills" -> stats.setHeadshotKills(parser.getValueAsInt());
+                case "heals" -> stats.setHeals(parser.getValueAsInt());
+                case "killPoints" -> stats.setKillPoints(parser.getValueAsDouble());
+                case "kills" -> stats.setKills(parser.getValueAsInt());
+                case "longestKill" -> stats.setLongestKill(parser.getValueAsDouble());
+                case "longestTimeSurvived" -> stats.setLongestTimeSurvived(parser.getValueAsDouble());
+                case "losses" -> stats.setLosses(parser.getValueAsInt());
+                case "maxKillStreaks" -> stats.setMaxKillStreaks(parser.getValueAsInt());
+                case "mostSurvivalTime" -> stats.setMostSurvivalTime(parser.getValueAsDouble());
+                case "rankPoints" -> stats.setRankPoints(parser.getValueAsDouble());
+                case "rankPointsTitle" -> stats.setRankPointsTitle(parser.getValueAsString());
+                case "revives" -> stats.setRevives(parser.getValueAsInt());
+                case "rideDistance" -> stats.setRideDistance(parser.getValueAsDouble());
+                case "roadKills" -> stats.setRoadKills(parser.getValueAsInt());
+                case "roundMostKills" -> stats.setRoundMostKills(parser.getValueAsInt());
+                case "roundsPlayed" -> stats.setRoundsPlayed(parser.getValueAsInt());
+                case "suicides" -> stats.setSuicides(parser.getValueAsInt());
+                case "swimDistance" -> stats.setSwimDistance(parser.getValueAsDouble());
+                case "teamKills" -> stats.setTeamKills(parser.getValueAsInt());
+                case "timeSurvived" -> stats.setTimeSurvived(parser.getValueAsDouble());
+                case "top10s" -> stats.setTop10s(parser.getValueAsInt());
+                case "vehicleDestroys" -> stats.setVehicleDestroys(parser.getValueAsInt());
+                case "walkDistance" -> stats.setWalkDistance(parser.getValueAsDouble());
+                case "weaponsAcquired" -> stats.setWeaponsAcquired(parser.getValueAsInt());
+                case "weeklyKills" -> stats.setWeeklyKills(parser.getValueAsInt());
+                case "weeklyWins" -> stats.setWeeklyWins(parser.getValueAsInt());
+                case "winPoints" -> stats.setWinPoints(parser.getValueAsDouble());
+                case "wins" -> stats.setWins(parser.getValueAsInt());
+                default -> parser.skipChildren();
+            }
+        }
+        return stats;
+    }
+}
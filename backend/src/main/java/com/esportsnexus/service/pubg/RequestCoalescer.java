@@ -0,0 +1,71 @@
+package com.esportsnexus.service.pubg;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight de-duplication of upstream calls: while a call for a key is in
+ * flight, concurrent callers for the same key wait for and share its result
+ * instead of issuing their own request.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("pubg.api.coalescer.calls")
+            .description("Upstream PUBG calls by whether they were executed or joined an in-flight call")
+            .tag("result", "executed")
+            .register(meterRegistry);
+        this.coalesced = Counter.builder("pubg.api.coalescer.calls")
+            .description("Upstream PUBG calls by whether they were executed or joined an in-flight call")
+            .tag("result", "coalesced")
+            .register(meterRegistry);
+        Gauge.builder("pubg.api.coalescer.in-flight", inFlight, ConcurrentHashMap::size)
+            .description("Distinct upstream PUBG calls currently in flight")
+            .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call) {
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) await(existing);
+        }
+
+        executed.increment();
+        try {
+            T result = call.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
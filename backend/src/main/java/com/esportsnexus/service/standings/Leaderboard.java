@@ -0,0 +1,157 @@
+package com.esportsnexus.service.standings;
+
+import com.esportsnexus.dto.TeamStanding;
+import com.esportsnexus.model.MatchResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Standings of one tournament, updated match by match. Teams are ranked by total
+ * points (placement plus kill points), then wins, then placement points, then
+ * kills. Applying a result touches only the teams in it, each in O(log n), and
+ * rank lookups are O(log n) as well.
+ */
+public class Leaderboard {
+
+    private static final Comparator<Score> ORDER = Comparator
+            .comparingInt(Score::points).reversed()
+            .thenComparing(Comparator.comparingInt(Score::wins).reversed())
+            .thenComparing(Comparator.comparingInt(Score::placementPoints).reversed())
+            .thenComparing(Comparator.comparingInt(Score::kills).reversed())
+            .thenComparing(Score::teamId);
+
+    private final PlacementScoring scoring;
+    private final Map<String, Score> scores = new HashMap<>();
+    private final RankedSet<Score> order = new RankedSet<>(ORDER);
+    // Held across storing a result and applying it, so writes land in the same order in both
+    private final Object writeLock = new Object();
+    private boolean dirty;
+    private long version;
+
+    public Leaderboard(PlacementScoring scoring) {
+        this.scoring = scoring;
+    }
+
+    /**
+     * Lock that writers hold while storing a result and applying it here. Separate
+     * from the board's own monitor so that readers are not held up by the write.
+     */
+    public Object writeLock() {
+        return writeLock;
+    }
+
+    /**
+     * Number of results recorded for the tournament when these standings were current
+     */
+    public synchronized long version() {
+        return version;
+    }
+
+    public synchronized void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Replace the contribution of previous (may be null) with that of result
+     */
+    public synchronized void replace(MatchResult previous, MatchResult result) {
+        if (previous != null) {
+            apply(previous.getTeams(), -1);
+        }
+        apply(result.getTeams(), 1);
+    }
+
+    public synchronized List<TeamStanding> top(int limit) {
+        List<Score> leaders = order.first(limit);
+        List<TeamStanding> standings = new ArrayList<>(leaders.size());
+        for (int i = 0; i < leaders.size(); i++) {
+            standings.add(leaders.get(i).toStanding(i + 1));
+        }
+        return standings;
+    }
+
+    /**
+     * Standing of teamId, or null if it has no results yet
+     */
+    public synchronized TeamStanding find(String teamId) {
+        Score score = scores.get(teamId);
+        return score != null ? score.toStanding(order.rank(score) + 1) : null;
+    }
+
+    /**
+     * teamId -> rank for every team, clearing the dirty flag; null if nothing
+     * changed since the last snapshot
+     */
+    public synchronized Map<String, Integer> snapshotIfDirty() {
+        if (!dirty) {
+            return null;
+        }
+        dirty = false;
+        Map<String, Integer> rankings = new LinkedHashMap<>();
+        List<Score> ranked = order.first(order.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            rankings.put(ranked.get(i).teamId(), i + 1);
+        }
+        return rankings;
+    }
+
+    /**
+     * Mark the standings for the next snapshot again, e.g. after a failed write
+     */
+    public synchronized void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Treat the current standings as already written, e.g. after rebuilding them
+     * from stored results
+     */
+    public synchronized void markClean() {
+        dirty = false;
+    }
+
+    private void apply(List<MatchResult.TeamResult> teams, int sign) {
+        if (teams == null) {
+            return;
+        }
+        for (MatchResult.TeamResult team : teams) {
+            Score current = scores.get(team.getTeamId());
+            if (current != null) {
+                order.remove(current);
+            } else {
+                current = new Score(team.getTeamId(), 0, 0, 0, 0, 0);
+            }
+            Score updated = new Score(
+                    team.getTeamId(),
+                    current.placementPoints() + sign * scoring.placementPoints(team.getPlacement()),
+                    current.killPoints() + sign * scoring.killPoints(team.getKills()),
+                    current.kills() + sign * team.getKills(),
+                    current.wins() + (team.getPlacement() == 1 ? sign : 0),
+                    current.matchesPlayed() + sign);
+            if (updated.matchesPlayed() > 0) {
+                scores.put(updated.teamId(), updated);
+                order.add(updated);
+            } else {
+                scores.remove(updated.teamId());
+            }
+        }
+        dirty = true;
+    }
+
+    private record Score(String teamId, int placementPoints, int killPoints, int kills, int wins,
+                         int matchesPlayed) {
+
+        int points() {
+            return placementPoints + killPoints;
+        }
+
+        TeamStanding toStanding(int rank) {
+            return new TeamStanding(rank, teamId, points(), placementPoints, killPoints, kills, wins, matchesPlayed);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.esportsnexus.service.standings;
+
+/**
+ * PUBG-style match scoring: a fixed number of points per finishing place plus a
+ * number of points per kill.
+ */
+public class PlacementScoring {
+
+    // Index 0 is first place; places beyond the table score nothing
+    private final int[] placementPoints;
+    private final int pointsPerKill;
+
+    public PlacementScoring(int[] placementPoints, int pointsPerKill) {
+        this.placementPoints = placementPoints.clone();
+        this.pointsPerKill = pointsPerKill;
+    }
+
+    public int placementPoints(int placement) {
+        return placement >= 1 && placement <= placementPoints.length ? placementPoints[placement - 1] : 0;
+    }
+
+    public int killPoints(int kills) {
+        return kills * pointsPerKill;
+    }
+
+    public int points(int placement, int kills) {
+        return placementPoints(placement) + killPoints(kills);
+    }
+}
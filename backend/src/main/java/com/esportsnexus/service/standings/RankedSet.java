@@ -0,0 +1,138 @@
+package com.esportsnexus.service.standings;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sorted set that also answers "how many elements come before this one" in
+ * O(log n). Implemented as a treap whose nodes track their subtree size. Elements
+ * must be distinct under the comparator, and an element must not change its
+ * position while it is in the set: remove it, change it, add it back.
+ * Not thread-safe.
+ */
+public class RankedSet<T> {
+
+    private final Comparator<? super T> comparator;
+    private Node<T> root;
+
+    public RankedSet(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    public void add(T value) {
+        Split<T> parts = split(root, value, false);
+        root = merge(merge(parts.lower, new Node<>(value)), parts.upper);
+    }
+
+    public void remove(T value) {
+        Split<T> below = split(root, value, false);
+        Split<T> rest = split(below.upper, value, true);
+        root = merge(below.lower, rest.upper);
+    }
+
+    /**
+     * Number of elements ordered before value, whether or not value is in the set
+     */
+    public int rank(T value) {
+        int rank = 0;
+        Node<T> node = root;
+        while (node != null) {
+            if (comparator.compare(value, node.value) > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * The first limit elements in order
+     */
+    public List<T> first(int limit) {
+        List<T> result = new ArrayList<>(Math.min(limit, size()));
+        Deque<Node<T>> path = new ArrayDeque<>();
+        Node<T> node = root;
+        while ((node != null || !path.isEmpty()) && result.size() < limit) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+            node = path.pop();
+            result.add(node.value);
+            node = node.right;
+        }
+        return result;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Splits the tree into elements before value (or up to and including it) and
+     * the rest
+     */
+    private Split<T> split(Node<T> node, T value, boolean inclusive) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        int compared = comparator.compare(node.value, value);
+        if (compared < 0 || (inclusive && compared == 0)) {
+            Split<T> parts = split(node.right, value, inclusive);
+            node.right = parts.lower;
+            node.update();
+            return new Split<>(node, parts.upper);
+        }
+        Split<T> parts = split(node.left, value, inclusive);
+        node.left = parts.upper;
+        node.update();
+        return new Split<>(parts.lower, node);
+    }
+
+    // Every element of lower comes before every element of upper
+    private Node<T> merge(Node<T> lower, Node<T> upper) {
+        if (lower == null) {
+            return upper;
+        }
+        if (upper == null) {
+            return lower;
+        }
+        if (lower.priority > upper.priority) {
+            lower.right = merge(lower.right, upper);
+            lower.update();
+            return lower;
+        }
+        upper.left = merge(lower, upper.left);
+        upper.update();
+        return upper;
+    }
+
+    private static int size(Node<?> node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static class Node<T> {
+        private final T value;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T value) {
+            this.value = value;
+        }
+
+        private void update() {
+            size = size(left) + size(right) + 1;
+        }
+    }
+
+    private record Split<T>(Node<T> lower, Node<T> upper) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.esportsnexus.dto.pubg;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PubgGameModeStatsDtoTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void serializesDbnosOnceUnderThePubgName() throws Exception {
+        PubgGameModeStatsDto stats = new PubgGameModeStatsDto();
+        stats.setDBNOs(7);
+        stats.setKills(12);
+
+        JsonNode json = objectMapper.valueToTree(stats);
+
+        assertThat(json.get("dBNOs").asInt()).isEqualTo(7);
+        assertThat(json.has("dbnos")).isFalse();
+        assertThat(json.has("DBNOs")).isFalse();
+        assertThat(json.get("kills").asInt()).isEqualTo(12);
+    }
+
+    @Test
+    void readsDbnosBackFromThePubgName() throws Exception {
+        PubgGameModeStatsDto stats = objectMapper.readValue("{\"dBNOs\":3,\"wins\":1}", PubgGameModeStatsDto.class);
+
+        assertThat(stats.getDBNOs()).isEqualTo(3);
+        assertThat(stats.getWins()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,182 @@
+package com.esportsnexus.repository;
+
+import com.esportsnexus.model.Tournament;
+import com.esportsnexus.model.Tournament.TournamentStatus;
+import com.esportsnexus.model.TournamentRegistration;
+import com.esportsnexus.repository.TournamentRepositoryCustom.RegistrationOutcome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Registration storms against an embedded MongoDB: whatever the interleaving, a
+ * tournament must never hold more teams than maxTeams, registeredTeamCount must
+ * match the registrations actually stored, and a team is registered at most once.
+ * Runs in the integration-test phase (mvn verify), as the embedded mongod is
+ * downloaded on first use.
+ */
+@DataMongoTest(properties = "de.flapdoodle.mongodb.embedded.version=6.0.5")
+class TournamentRegistrationConcurrencyIT {
+
+    private static final int THREADS = 64;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        mongoTemplate.dropCollection(TournamentRegistration.class);
+        mongoTemplate.dropCollection(Tournament.class);
+    }
+
+    @Test
+    void singleRegistrationsNeverOverbook() throws Exception {
+        String tournamentId = openTournament(100);
+
+        Map<RegistrationOutcome, Integer> outcomes = fire(5000,
+            i -> () -> List.of(tournamentRepository.registerTeam(tournamentId, "team-" + i)));
+
+        assertThat(outcomes.get(RegistrationOutcome.REGISTERED)).isEqualTo(100);
+        assertThat(outcomes.get(RegistrationOutcome.FULL)).isEqualTo(4900);
+        assertStored(tournamentId, 100);
+    }
+
+    @Test
+    void repeatedRegistrationsOfOneTeamCountOnce() throws Exception {
+        String tournamentId = openTournament(1000);
+
+        // 500 teams, each registered by 8 concurrent requests
+        Map<RegistrationOutcome, Integer> outcomes = fire(4000,
+            i -> () -> List.of(tournamentRepository.registerTeam(tournamentId, "team-" + (i % 500))));
+
+        assertThat(outcomes.get(RegistrationOutcome.REGISTERED)).isEqualTo(500);
+        assertThat(outcomes.get(RegistrationOutcome.DUPLICATE)).isEqualTo(3500);
+        assertStored(tournamentId, 500);
+    }
+
+    @Test
+    void batchRegistrationsNeverOverbook() throws Exception {
+        String tournamentId = openTournament(150);
+
+        // 200 batches of 25 teams; neighbouring batches share 5 teams
+        Map<RegistrationOutcome, Integer> outcomes = fire(200, i -> () -> {
+            List<String> teamIds = new ArrayList<>();
+            for (int team = i * 20; team < i * 20 + 25; team++) {
+                teamIds.add("team-" + team);
+            }
+            return List.copyOf(tournamentRepository.registerTeams(tournamentId, teamIds).values());
+        });
+
+        int registered = outcomes.get(RegistrationOutcome.REGISTERED);
+        assertThat(registered).isLessThanOrEqualTo(150);
+        if (outcomes.get(RegistrationOutcome.BUSY) == 0) {
+            assertThat(registered).isEqualTo(150);
+        }
+        assertThat(outcomes.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(200 * 25);
+        assertStored(tournamentId, registered);
+    }
+
+    @Test
+    void closedTournamentAdmitsNobody() throws Exception {
+        String tournamentId = openTournament(100);
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(tournamentId)),
+            new Update().set("status", TournamentStatus.REGISTRATION_CLOSED),
+            Tournament.class);
+
+        Map<RegistrationOutcome, Integer> outcomes = fire(1000,
+            i -> () -> List.of(tournamentRepository.registerTeam(tournamentId, "team-" + i)));
+
+        assertThat(outcomes.get(RegistrationOutcome.CLOSED)).isEqualTo(1000);
+        assertStored(tournamentId, 0);
+    }
+
+    @Test
+    void maxTeamsCannotDropBelowRegisteredTeams() throws Exception {
+        String tournamentId = openTournament(100);
+        fire(10, i -> () -> List.of(tournamentRepository.registerTeam(tournamentId, "team-" + i)));
+
+        assertThatThrownBy(() -> tournamentRepository.updateDetails(tournamentId, "Smaller", null, null, 9, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        Tournament updated = tournamentRepository.updateDetails(tournamentId, "Smaller", null, null, 10, null);
+
+        assertThat(updated.getName()).isEqualTo("Smaller");
+        assertThat(updated.getMaxTeams()).isEqualTo(10);
+        assertThat(tournamentRepository.updateDetails("missing", "Smaller", null, null, 10, null)).isNull();
+        assertStored(tournamentId, 10);
+    }
+
+    private String openTournament(int maxTeams) {
+        Tournament tournament = new Tournament();
+        tournament.setName("Registration storm");
+        tournament.setGame("BGMI");
+        tournament.setStatus(TournamentStatus.REGISTRATION_OPEN);
+        tournament.setMaxTeams(maxTeams);
+        return tournamentRepository.save(tournament).getId();
+    }
+
+    /**
+     * Run tasks 0..count-1 on all threads at once and tally their outcomes
+     */
+    private Map<RegistrationOutcome, Integer> fire(int count, IntFunction<Callable<List<RegistrationOutcome>>> task)
+            throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<RegistrationOutcome>>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Callable<List<RegistrationOutcome>> call = task.apply(i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                return call.call();
+            }));
+        }
+        start.countDown();
+
+        Map<RegistrationOutcome, Integer> outcomes = new EnumMap<>(RegistrationOutcome.class);
+        for (RegistrationOutcome outcome : RegistrationOutcome.values()) {
+            outcomes.put(outcome, 0);
+        }
+        for (Future<List<RegistrationOutcome>> future : futures) {
+            future.get().forEach(outcome -> outcomes.merge(outcome, 1, Integer::sum));
+        }
+        return outcomes;
+    }
+
+    private void assertStored(String tournamentId, int expected) {
+        Query registrations = Query.query(Criteria.where("tournamentId").is(tournamentId));
+        assertThat(mongoTemplate.count(registrations, TournamentRegistration.class)).isEqualTo(expected);
+        assertThat(mongoTemplate.findDistinct(registrations, "teamId", TournamentRegistration.class, String.class))
+            .hasSize(expected);
+        assertThat(tournamentRepository.findById(tournamentId).orElseThrow().getRegisteredTeamCount())
+            .isEqualTo(expected);
+    }
+}
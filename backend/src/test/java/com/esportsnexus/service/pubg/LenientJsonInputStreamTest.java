@@ -0,0 +1,148 @@
+package com.esportsnexus.service.pubg;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LenientJsonInputStreamTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void insertsMissingCommasBetweenMembers() throws IOException {
+        assertThat(repair("{\"id\":\"a\"\"name\":\"b\" \"count\":3\n\"ok\":true}"))
+            .isEqualTo("{\"id\":\"a\",\"name\":\"b\" ,\"count\":3\n,\"ok\":true}");
+    }
+
+    @Test
+    void insertsMissingCommasBetweenObjectsAndArrayElements() throws IOException {
+        assertThat(repair("{\"data\":[{\"id\":\"a\"}{\"id\":\"b\"}]\"links\":{}}"))
+            .isEqualTo("{\"data\":[{\"id\":\"a\"},{\"id\":\"b\"}],\"links\":{}}");
+        assertThat(repair("[1 2 -3.5e2 true false null \"x\" [] {}]"))
+            .isEqualTo("[1 ,2 ,-3.5e2 ,true ,false ,null ,\"x\" ,[] ,{}]");
+    }
+
+    @Test
+    void leavesEscapedQuotesAndBracesInStringsAlone() throws IOException {
+        String json = "{\"name\":\"say \\\"hi\\\"\",\"tag\":\"\\\"}{\\\"\",\"path\":\"C:\\\\\",\"x\":\"]\\\"[\"}";
+
+        assertThat(repair(json)).isEqualTo(json);
+        assertThat(objectMapper.readTree(repair(json)).get("tag").asText()).isEqualTo("\"}{\"");
+    }
+
+    @Test
+    void repairsAfterAStringEndingInAnEscapedQuote() throws IOException {
+        assertThat(repair("{\"name\":\"say \\\"hi\\\"\"\"id\":\"x\"}"))
+            .isEqualTo("{\"name\":\"say \\\"hi\\\"\",\"id\":\"x\"}");
+    }
+
+    @Test
+    void keepsEmptyStringsAndSpacedColons() throws IOException {
+        String json = "{ \"name\" : \"\" , \"shardId\"\t:\t\"\" }";
+
+        assertThat(repair(json)).isEqualTo(json);
+        assertThat(repair("{\"a\" : \"\"\"b\" : \"\"}")).isEqualTo("{\"a\" : \"\",\"b\" : \"\"}");
+    }
+
+    @Test
+    void passesWellFormedInputThroughByteForByte() throws IOException {
+        String json = "{\"data\":[{\"type\":\"player\",\"id\":\"account.1\",\"attributes\":"
+            + "{\"name\":\"Pl\\u00e4yer \\\"1\\\"\",\"stats\":null,\"rank\":-1.5E3,\"banned\":false},"
+            + "\"relationships\":{\"matches\":{\"data\":[{\"type\":\"match\",\"id\":\"m1\"}]}}}],"
+            + "\"meta\":{}}";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(new LenientJsonInputStream(new ByteArrayInputStream(bytes)).readAllBytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    void passesMultiByteCharactersThrough() throws IOException {
+        String json = "{\"name\":\"चैंपियन 🏆\"\"id\":\"x\"}";
+
+        assertThat(repair(json)).isEqualTo("{\"name\":\"चैंपियन 🏆\",\"id\":\"x\"}");
+    }
+
+    @Test
+    void repairsAcrossTheReadBufferBoundary() throws IOException {
+        // Moves the missing separator, and an escape, across the 8 KB buffer edge
+        for (int padding = 8170; padding < 8210; padding++) {
+            String value = "x".repeat(padding) + "\\\"";
+            String json = "{\"pad\":\"" + value + "\"\"next\":[1 2]}";
+
+            JsonNode root = objectMapper.readTree(repair(json));
+
+            assertThat(root.get("pad").asText()).hasSize(padding + 1).endsWith("\"");
+            assertThat(root.get("next").toString()).isEqualTo("[1,2]");
+        }
+    }
+
+    @Test
+    void repairsWhenTheSourceDeliversOneByteAtATime() throws IOException {
+        String json = "{\"data\":[{\"id\":\"a\"}{\"id\":\"b\"}]\"ok\":true}";
+        InputStream trickle = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+
+            @Override
+            public synchronized int available() {
+                return 0;
+            }
+        };
+
+        String repaired = new String(new LenientJsonInputStream(trickle).readAllBytes(), StandardCharsets.UTF_8);
+
+        assertThat(repaired).isEqualTo("{\"data\":[{\"id\":\"a\"},{\"id\":\"b\"}],\"ok\":true}");
+    }
+
+    @Test
+    void agreesWithTheRegexRepairOnMissingSeparators() throws IOException {
+        String json = "{\"data\":[{\"type\":\"player\"\"id\":\"account.1\"\"attributes\":{\"name\":\"p1\"}"
+            + "\"relationships\":{\"matches\":{\"data\":[{\"id\":\"m1\"},{\"id\":\"m2\"}]}}}]}";
+
+        assertThat(objectMapper.readTree(repair(json))).isEqualTo(objectMapper.readTree(regexRepair(json)));
+    }
+
+    @Test
+    void repairsSeparatorsTheRegexRepairMissed() throws IOException {
+        String json = "[[{\"id\":\"m1\"}{\"id\":\"m2\"}][1 2]]";
+
+        assertThat(regexRepair(json)).isEqualTo(json);
+        assertThat(repair(json)).isEqualTo("[[{\"id\":\"m1\"},{\"id\":\"m2\"}],[1 ,2]]");
+    }
+
+    @Test
+    void keepsStringsTheRegexRepairCorrupted() throws IOException {
+        String json = "{\"name\":\"\",\"clan\":\"[x]\\\"{\",\"motto\":\"gg}\"}";
+
+        JsonNode repaired = objectMapper.readTree(repair(json));
+        JsonNode regexRepaired = objectMapper.readTree(regexRepair(json));
+
+        assertThat(repaired).isEqualTo(objectMapper.readTree(json));
+        assertThat(regexRepaired.get("name").asText()).isEqualTo(",");
+        assertThat(regexRepaired.get("motto").asText()).isEqualTo("gg},");
+    }
+
+    private static String repair(String json) throws IOException {
+        InputStream in = new LenientJsonInputStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    // The regex chain LenientJsonInputStream replaced, kept as a reference
+    private static String regexRepair(String json) {
+        json = json.replaceAll("\"(\\s*)\"", "\",\"");
+        json = json.replaceAll("\\}(\\s*)\"", "},\"");
+        json = json.replaceAll("\\](\\s*)\"", "],\"");
+        json = json.replaceAll("\"(\\s*)\\{", "\",{");
+        json = json.replaceAll("\"(\\s*)\\[", "\",[");
+        return json;
+    }
+}
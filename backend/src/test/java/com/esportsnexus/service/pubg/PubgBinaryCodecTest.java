@@ -0,0 +1,305 @@
+package com.esportsnexus.service.pubg;
+
+import com.esportsnexus.dto.pubg.PubgGameModeStatsDto;
+import com.esportsnexus.dto.pubg.PubgLifetimeStatsDto;
+import com.esportsnexus.dto.pubg.PubgMatchDto;
+import com.esportsnexus.dto.pubg.PubgParticipantDto;
+import com.esportsnexus.dto.pubg.PubgPlayerDto;
+import com.esportsnexus.dto.pubg.PubgSeasonStatsDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PubgBinaryCodecTest {
+
+    private final PubgBinaryCodec codec = new PubgBinaryCodec();
+
+    @Test
+    void roundTripsStrings() {
+        assertThat(roundTrip("squad-fpp")).isEqualTo("squad-fpp");
+        assertThat(roundTrip("")).isEqualTo("");
+        assertThat(roundTrip("चैंपियन 🏆")).isEqualTo("चैंपियन 🏆");
+    }
+
+    @Test
+    void roundTripsAPlayer() {
+        PubgPlayerDto player = player("account.0f1e2d3c4b5a69788796a5b4c3d2e1f0", "ShroudFan_99");
+
+        assertThat(roundTrip(player)).usingRecursiveComparison().isEqualTo(player);
+    }
+
+    @Test
+    void roundTripsAPlayerList() {
+        List<PubgPlayerDto> players = List.of(player("account.1", "one"), player("account.2", "two"));
+
+        Object decoded = roundTrip(players);
+
+        assertThat(decoded).isInstanceOf(List.class);
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(players);
+        assertThat(roundTrip(List.of())).usingRecursiveComparison().isEqualTo(List.of());
+    }
+
+    @Test
+    void roundTripsSeasonAndLifetimeStats() {
+        PubgSeasonStatsDto season = stats(new PubgSeasonStatsDto());
+        season.setSeasonId("division.bro.official.pc-2018-28");
+        PubgLifetimeStatsDto lifetime = stats(new PubgLifetimeStatsDto());
+
+        Object decodedSeason = roundTrip(season);
+        Object decodedLifetime = roundTrip(lifetime);
+
+        assertThat(decodedSeason.getClass()).isEqualTo(PubgSeasonStatsDto.class);
+        assertThat(decodedSeason).usingRecursiveComparison().isEqualTo(season);
+        assertThat(decodedLifetime.getClass()).isEqualTo(PubgLifetimeStatsDto.class);
+        assertThat(decodedLifetime).usingRecursiveComparison().isEqualTo(lifetime);
+    }
+
+    @Test
+    void roundTripsAMatch() {
+        PubgMatchDto match = match();
+
+        assertThat(roundTrip(match)).usingRecursiveComparison().isEqualTo(match);
+    }
+
+    @Test
+    void roundTripsNonIntegralAndSpecialDoubles() {
+        double[] values = {0.0, -0.0, 1.5, -187.42, 1e-9, 1L << 40, -(1L << 40), 123456789012345.0,
+            Double.MAX_VALUE, Double.MIN_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        PubgMatchDto match = new PubgMatchDto();
+        match.setId("m1");
+        List<PubgParticipantDto> participants = new ArrayList<>();
+        for (double value : values) {
+            PubgParticipantDto participant = new PubgParticipantDto();
+            participant.setDamageDealt(value);
+            participant.setLongestKill(-value);
+            participants.add(participant);
+        }
+        match.setParticipants(participants);
+
+        PubgMatchDto decoded = (PubgMatchDto) roundTrip(match);
+
+        for (int i = 0; i < values.length; i++) {
+            PubgParticipantDto participant = decoded.getParticipants().get(i);
+            assertThat(Double.doubleToRawLongBits(participant.getDamageDealt()))
+                .isEqualTo(Double.doubleToRawLongBits(values[i]));
+            assertThat(Double.doubleToRawLongBits(participant.getLongestKill()))
+                .isEqualTo(Double.doubleToRawLongBits(-values[i]));
+        }
+    }
+
+    @Test
+    void roundTripsExtremeInts() {
+        PubgMatchDto match = new PubgMatchDto();
+        match.setId("m1");
+        match.setDuration(Integer.MIN_VALUE);
+        PubgParticipantDto participant = new PubgParticipantDto();
+        participant.setKills(Integer.MAX_VALUE);
+        participant.setWinPlace(-1);
+        match.setParticipants(List.of(participant));
+
+        assertThat(roundTrip(match)).usingRecursiveComparison().isEqualTo(match);
+    }
+
+    @Test
+    void keepsIdsThatAreNotLowercaseUuidsVerbatim() {
+        List<String> ids = List.of(
+            "7AD9D9C4-0F3B-4D5E-9B1A-2C6B8E3F4A10",
+            "7ad9d9c4-0f3b-4d5e-9b1a-2c6b8e3f4a1",
+            "7ad9d9c40f3b4d5e9b1a2c6b8e3f4a10xxxx",
+            "7ad9d9c4-0f3b-4d5e-9b1a-2c6b8e3f4a1g",
+            "account.0f1e2d3c4b5a69788796a5b4c3d2e1f0",
+            "7ad9d9c4-0f3b-4d5e-9b1a-2c6b8e3f4a10");
+        PubgPlayerDto player = player("account.1", "ids");
+        player.setMatchIds(ids);
+
+        PubgPlayerDto decoded = (PubgPlayerDto) roundTrip(player);
+
+        assertThat(decoded.getMatchIds()).isEqualTo(ids);
+    }
+
+    @Test
+    void packsLowercaseUuidsAndRepeatedStrings() {
+        String uuid = "7ad9d9c4-0f3b-4d5e-9b1a-2c6b8e3f4a10";
+        PubgPlayerDto none = player("account.1", "p");
+        none.setMatchIds(List.of());
+        PubgPlayerDto once = player("account.1", "p");
+        once.setMatchIds(List.of(uuid));
+        PubgPlayerDto twice = player("account.1", "p");
+        twice.setMatchIds(List.of(uuid, uuid));
+
+        int noneSize = codec.encode(none).length;
+        int onceSize = codec.encode(once).length;
+
+        // A UUID takes a marker plus 16 bytes instead of 36 characters, a repeat only its reference
+        assertThat(onceSize).isEqualTo(noneSize + 17);
+        assertThat(codec.encode(twice).length).isEqualTo(onceSize + 1);
+        assertThat(roundTrip(twice)).usingRecursiveComparison().isEqualTo(twice);
+    }
+
+    @Test
+    void roundTripsNullFields() {
+        PubgPlayerDto player = new PubgPlayerDto();
+        PubgSeasonStatsDto stats = new PubgSeasonStatsDto();
+        PubgMatchDto match = new PubgMatchDto();
+        PubgMatchDto matchWithEmptyParticipant = new PubgMatchDto();
+        matchWithEmptyParticipant.setParticipants(List.of(new PubgParticipantDto()));
+        PubgSeasonStatsDto statsWithEmptyMode = new PubgSeasonStatsDto();
+        statsWithEmptyMode.setGameModeStats(Map.of("solo", new PubgGameModeStatsDto()));
+
+        assertThat(roundTrip(player)).usingRecursiveComparison().isEqualTo(player);
+        assertThat(roundTrip(stats)).usingRecursiveComparison().isEqualTo(stats);
+        assertThat(roundTrip(match)).usingRecursiveComparison().isEqualTo(match);
+        assertThat(roundTrip(matchWithEmptyParticipant)).usingRecursiveComparison()
+            .isEqualTo(matchWithEmptyParticipant);
+        assertThat(roundTrip(statsWithEmptyMode)).usingRecursiveComparison().isEqualTo(statsWithEmptyMode);
+    }
+
+    @Test
+    void decodesABufferWithoutMovingIt() {
+        byte[] payload = codec.encode("telemetry");
+        ByteBuffer buffer = ByteBuffer.allocate(payload.length + 4);
+        buffer.putInt(42).put(payload).flip().position(4);
+
+        assertThat(codec.decode(buffer)).isEqualTo("telemetry");
+        assertThat(buffer.position()).isEqualTo(4);
+        assertThat(buffer.remaining()).isEqualTo(payload.length);
+    }
+
+    @Test
+    void rejectsPayloadsFromANewerVersion() {
+        byte[] payload = codec.encode(match());
+        payload[0] = (byte) (PubgBinaryCodec.VERSION + 1);
+
+        assertThatThrownBy(() -> codec.decode(payload))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("version");
+    }
+
+    @Test
+    void rejectsUnknownTypesAndValues() {
+        byte[] payload = codec.encode("x");
+        payload[1] = 99;
+
+        assertThatThrownBy(() -> codec.decode(payload)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(codec.supports(Map.of())).isFalse();
+        assertThat(codec.supports(List.of("not a player"))).isFalse();
+        assertThatThrownBy(() -> codec.encode(42)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void encodesAMatchSmallerThanJson() throws Exception {
+        PubgMatchDto match = match();
+
+        byte[] json = new ObjectMapper().writeValueAsBytes(match);
+
+        assertThat(codec.encode(match).length).isLessThan(json.length / 3);
+    }
+
+    private Object roundTrip(Object value) {
+        assertThat(codec.supports(value)).isTrue();
+        return codec.decode(codec.encode(value));
+    }
+
+    private static PubgPlayerDto player(String id, String name) {
+        PubgPlayerDto player = new PubgPlayerDto();
+        player.setId(id);
+        player.setName(name);
+        player.setShardId("steam");
+        player.setCreatedAt("2024-03-02T14:05:11Z");
+        player.setUpdatedAt("2024-03-02T14:05:11Z");
+        player.setMatchIds(List.of("7ad9d9c4-0f3b-4d5e-9b1a-2c6b8e3f4a10", "1c6e4b3f-3e2d-4d8b-9a6f-2b3c4d5e6f70"));
+        return player;
+    }
+
+    private static <T extends PubgSeasonStatsDto> T stats(T stats) {
+        Map<String, PubgGameModeStatsDto> modes = new LinkedHashMap<>();
+        int seed = 1;
+        for (String mode : List.of("solo", "duo-fpp", "squad-fpp")) {
+            PubgGameModeStatsDto s = new PubgGameModeStatsDto();
+            s.setAssists(seed);
+            s.setBoosts(seed + 1);
+            s.setDBNOs(seed + 2);
+            s.setDailyKills(seed + 3);
+            s.setDailyWins(seed + 4);
+            s.setDamageDealt(seed * 1234.56);
+            s.setDays(seed + 5);
+            s.setHeadshotKills(seed + 6);
+            s.setHeals(seed + 7);
+            s.setKillPoints(0);
+            s.setKills(seed * 100);
+            s.setLongestKill(seed * 301.25);
+            s.setLongestTimeSurvived(1843.9);
+            s.setLosses(seed + 8);
+            s.setMaxKillStreaks(seed + 9);
+            s.setMostSurvivalTime(1843.9);
+            s.setRankPoints(seed * 1500.5);
+            s.setRankPointsTitle(seed == 3 ? null : "Gold-" + seed);
+            s.setRevives(seed + 10);
+            s.setRideDistance(seed * 98765.4321);
+            s.setRoadKills(seed + 11);
+            s.setRoundMostKills(seed + 12);
+            s.setRoundsPlayed(seed * 50);
+            s.setSuicides(seed + 13);
+            s.setSwimDistance(0.5);
+            s.setTeamKills(seed + 14);
+            s.setTimeSurvived(seed * 86400.25);
+            s.setTop10s(seed + 15);
+            s.setVehicleDestroys(seed + 16);
+            s.setWalkDistance(seed * 120000);
+            s.setWeaponsAcquired(seed + 17);
+            s.setWeeklyKills(seed + 18);
+            s.setWeeklyWins(seed + 19);
+            s.setWinPoints(-seed);
+            s.setWins(seed + 20);
+            modes.put(mode, s);
+            seed++;
+        }
+        stats.setGameModeStats(modes);
+        return stats;
+    }
+
+    private static PubgMatchDto match() {
+        PubgMatchDto match = new PubgMatchDto();
+        match.setId("7ad9d9c4-0f3b-4d5e-9b1a-2c6b8e3f4a10");
+        match.setCreatedAt("2024-03-02T14:05:11Z");
+        match.setDuration(1843);
+        match.setGameMode("squad-fpp");
+        match.setMapName("Baltic_Main");
+        match.setMatchType("official");
+        match.setShardId("steam");
+        match.setTitleId("bluehole-pubg");
+        match.setTelemetryUrl("https://telemetry-cdn.pubg.com/bluehole-pubg/steam/2024/03/02/14/36/"
+            + "e1b0f1c2-3a4b-11ee-9f0e-0a58a9feac02-telemetry.json");
+
+        List<PubgParticipantDto> participants = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            PubgParticipantDto p = new PubgParticipantDto();
+            p.setId(String.format("5f0c1d2e-aaaa-4bbb-8ccc-%012d", i));
+            p.setName(i % 4 == 0 ? "bot" : "player_" + i);
+            p.setPlayerId(i % 4 == 0 ? "ai." + i : "account." + Integer.toHexString(i * 7919));
+            p.setKills(i % 7);
+            p.setAssists(i % 3);
+            p.setDamageDealt(i % 5 == 0 ? 0 : i * 17.375);
+            p.setWinPlace(64 - i);
+            p.setTimeSurvived(i * 28.5);
+            p.setHeadshotKills(i % 2);
+            p.setLongestKill(i % 6 == 0 ? 0 : i * 3.21);
+            p.setRevives(i % 2);
+            p.setTeamKills(0);
+            p.setWalkDistance(i * 44.125);
+            p.setSwimDistance(0);
+            p.setRideDistance(i % 3 == 0 ? 0 : i * 97.3);
+            participants.add(p);
+        }
+        match.setParticipants(participants);
+        return match;
+    }
+}
@@ -0,0 +1,112 @@
+package com.esportsnexus.service.pubg;
+
+import com.esportsnexus.dto.pubg.PubgMatchDto;
+import com.esportsnexus.dto.pubg.PubgParticipantDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PubgMatchParserTest {
+
+    private final PubgMatchParser parser = new PubgMatchParser(new JsonFactory());
+
+    @Test
+    void readsMatchAttributes() throws IOException {
+        PubgMatchDto match = parseFixture();
+
+        assertThat(match.getId()).isEqualTo("7ad9d9c4-0f3b-4d5e-9b1a-2c6b8e3f4a10");
+        assertThat(match.getCreatedAt()).isEqualTo("2024-03-02T14:05:11Z");
+        assertThat(match.getDuration()).isEqualTo(1843);
+        assertThat(match.getGameMode()).isEqualTo("squad-fpp");
+        assertThat(match.getMapName()).isEqualTo("Baltic_Main");
+        assertThat(match.getMatchType()).isEqualTo("official");
+        assertThat(match.getShardId()).isEqualTo("steam");
+        assertThat(match.getTitleId()).isEqualTo("bluehole-pubg");
+    }
+
+    @Test
+    void readsTheTelemetryUrlFromTheAsset() throws IOException {
+        PubgMatchDto match = parseFixture();
+
+        assertThat(match.getTelemetryUrl()).isEqualTo("https://telemetry-cdn.pubg.com/bluehole-pubg/steam/"
+            + "2024/03/02/14/36/e1b0f1c2-3a4b-11ee-9f0e-0a58a9feac02-telemetry.json");
+    }
+
+    @Test
+    void readsParticipantsAndSkipsRosters() throws IOException {
+        PubgMatchDto match = parseFixture();
+
+        // Two rosters carry stats objects too, one of them with its type after the attributes
+        assertThat(match.getParticipants()).hasSize(2);
+
+        PubgParticipantDto winner = match.getParticipants().get(0);
+        assertThat(winner.getId()).isEqualTo("5f0c1d2e-aaaa-4bbb-8ccc-000000000001");
+        assertThat(winner.getName()).isEqualTo("ShroudFan_99");
+        assertThat(winner.getPlayerId()).isEqualTo("account.0f1e2d3c4b5a69788796a5b4c3d2e1f0");
+        assertThat(winner.getKills()).isEqualTo(5);
+        assertThat(winner.getAssists()).isEqualTo(2);
+        assertThat(winner.getDamageDealt()).isEqualTo(412.75);
+        assertThat(winner.getWinPlace()).isEqualTo(1);
+        assertThat(winner.getTimeSurvived()).isEqualTo(1843.0);
+        assertThat(winner.getHeadshotKills()).isEqualTo(2);
+        assertThat(winner.getLongestKill()).isEqualTo(187.42);
+        assertThat(winner.getRevives()).isEqualTo(1);
+        assertThat(winner.getTeamKills()).isZero();
+        assertThat(winner.getWalkDistance()).isEqualTo(2875.125);
+        assertThat(winner.getSwimDistance()).isEqualTo(12.25);
+        assertThat(winner.getRideDistance()).isEqualTo(2310.5);
+
+        PubgParticipantDto bot = match.getParticipants().get(1);
+        assertThat(bot.getPlayerId()).isEqualTo("ai.7781");
+        assertThat(bot.getWinPlace()).isEqualTo(64);
+        assertThat(bot.getTimeSurvived()).isEqualTo(96.4);
+    }
+
+    @Test
+    void readsAttributesBeforeTheResourceType() throws IOException {
+        PubgMatchDto match = parse("{\"included\":["
+            + "{\"attributes\":{\"stats\":{\"name\":\"late\",\"kills\":1}},\"id\":\"p1\",\"type\":\"participant\"},"
+            + "{\"attributes\":{\"URL\":\"https://telemetry\"},\"type\":\"asset\"}],"
+            + "\"data\":{\"attributes\":{\"duration\":10},\"id\":\"m1\"}}");
+
+        assertThat(match.getId()).isEqualTo("m1");
+        assertThat(match.getDuration()).isEqualTo(10);
+        assertThat(match.getParticipants()).hasSize(1);
+        assertThat(match.getParticipants().get(0).getId()).isEqualTo("p1");
+        assertThat(match.getParticipants().get(0).getName()).isEqualTo("late");
+        assertThat(match.getTelemetryUrl()).isEqualTo("https://telemetry");
+    }
+
+    @Test
+    void returnsNoParticipantsWithoutIncluded() throws IOException {
+        PubgMatchDto match = parse("{\"data\":{\"id\":\"m1\",\"attributes\":{}}}");
+
+        assertThat(match.getParticipants()).isEmpty();
+        assertThat(match.getTelemetryUrl()).isNull();
+    }
+
+    @Test
+    void rejectsDocumentsWithoutAMatchId() {
+        assertThatThrownBy(() -> parse("{\"data\":{\"attributes\":{}},\"included\":[]}"))
+            .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> parse("[]"))
+            .isInstanceOf(IOException.class);
+    }
+
+    private PubgMatchDto parseFixture() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/pubg/match.json")) {
+            return parser.parse(in);
+        }
+    }
+
+    private PubgMatchDto parse(String json) throws IOException {
+        return parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
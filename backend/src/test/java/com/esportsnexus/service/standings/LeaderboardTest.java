@@ -0,0 +1,154 @@
+package com.esportsnexus.service.standings;
+
+import com.esportsnexus.dto.TeamStanding;
+import com.esportsnexus.model.MatchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardTest {
+
+    // 10, 6, 5, 4, 3, 2, 1, 1 points for places 1-8 and 1 point per kill
+    private static final PlacementScoring SCORING = new PlacementScoring(new int[]{10, 6, 5, 4, 3, 2, 1, 1}, 1);
+
+    @Test
+    void ranksTeamsByTotalPoints() {
+        Leaderboard leaderboard = new Leaderboard(SCORING);
+
+        leaderboard.replace(null, match("m1", team("a", 1, 2), team("b", 2, 8), team("c", 3, 0)));
+
+        assertThat(leaderboard.top(10)).containsExactly(
+            new TeamStanding(1, "b", 14, 6, 8, 8, 0, 1),
+            new TeamStanding(2, "a", 12, 10, 2, 2, 1, 1),
+            new TeamStanding(3, "c", 5, 5, 0, 0, 0, 1));
+    }
+
+    @Test
+    void accumulatesAcrossMatches() {
+        Leaderboard leaderboard = new Leaderboard(SCORING);
+
+        leaderboard.replace(null, match("m1", team("a", 1, 2), team("b", 2, 8)));
+        leaderboard.replace(null, match("m2", team("a", 1, 3), team("b", 3, 1)));
+
+        assertThat(leaderboard.find("a")).isEqualTo(new TeamStanding(1, "a", 25, 20, 5, 5, 2, 2));
+        assertThat(leaderboard.find("b")).isEqualTo(new TeamStanding(2, "b", 20, 11, 9, 9, 0, 2));
+    }
+
+    @Test
+    void breaksPointTiesByWinsThenPlacementPoints() {
+        Leaderboard leaderboard = new Leaderboard(SCORING);
+
+        // a, b and c all end on 10 points: a with a win, b with more placement points than c
+        leaderboard.replace(null, match("m1", team("c", 3, 5), team("b", 2, 4), team("a", 1, 0)));
+
+        assertThat(leaderboard.top(10)).extracting(TeamStanding::getTeamId).containsExactly("a", "b", "c");
+        assertThat(leaderboard.find("c").getRank()).isEqualTo(3);
+    }
+
+    @Test
+    void breaksRemainingTiesByKillsThenTeamId() {
+        // Kills score nothing here, so they only break ties
+        Leaderboard leaderboard = new Leaderboard(new PlacementScoring(new int[]{10, 6, 6, 6}, 0));
+
+        leaderboard.replace(null, match("m1", team("d", 4, 1), team("c", 3, 1), team("b", 2, 7), team("a", 1, 0)));
+
+        assertThat(leaderboard.top(10)).extracting(TeamStanding::getTeamId).containsExactly("a", "b", "c", "d");
+        assertThat(leaderboard.find("c").getRank()).isEqualTo(3);
+        assertThat(leaderboard.find("d").getRank()).isEqualTo(4);
+    }
+
+    @Test
+    void replacingAResultReplacesItsPoints() {
+        Leaderboard leaderboard = new Leaderboard(SCORING);
+        MatchResult first = match("m1", team("a", 1, 2), team("b", 2, 8));
+        MatchResult corrected = match("m1", team("a", 2, 2), team("b", 1, 8));
+
+        leaderboard.replace(null, first);
+        leaderboard.replace(null, match("m2", team("a", 3, 0), team("b", 4, 0)));
+        leaderboard.replace(first, corrected);
+
+        assertThat(leaderboard.find("a")).isEqualTo(new TeamStanding(2, "a", 13, 11, 2, 2, 0, 2));
+        assertThat(leaderboard.find("b")).isEqualTo(new TeamStanding(1, "b", 22, 14, 8, 8, 1, 2));
+    }
+
+    @Test
+    void teamLeavesTheBoardWhenItsOnlyResultIsCorrectedAway() {
+        Leaderboard leaderboard = new Leaderboard(SCORING);
+        MatchResult first = match("m1", team("a", 1, 0), team("b", 2, 0), team("c", 3, 0));
+
+        leaderboard.replace(null, first);
+        leaderboard.replace(first, match("m1", team("a", 1, 0), team("b", 2, 0)));
+
+        assertThat(leaderboard.find("c")).isNull();
+        assertThat(leaderboard.top(10)).extracting(TeamStanding::getTeamId).containsExactly("a", "b");
+
+        // and comes back with a clean slate
+        leaderboard.replace(null, match("m2", team("c", 1, 1)));
+        assertThat(leaderboard.find("c")).isEqualTo(new TeamStanding(1, "c", 11, 10, 1, 1, 1, 1));
+    }
+
+    @Test
+    void snapshotsOnlyAfterChanges() {
+        Leaderboard leaderboard = new Leaderboard(SCORING);
+        assertThat(leaderboard.snapshotIfDirty()).isNull();
+
+        leaderboard.replace(null, match("m1", team("a", 2, 0), team("b", 1, 0)));
+        assertThat(leaderboard.snapshotIfDirty()).containsExactly(Map.entry("b", 1), Map.entry("a", 2));
+        assertThat(leaderboard.snapshotIfDirty()).isNull();
+
+        leaderboard.markDirty();
+        assertThat(leaderboard.snapshotIfDirty()).isNotNull();
+
+        leaderboard.replace(null, match("m2", team("a", 1, 0)));
+        leaderboard.markClean();
+        assertThat(leaderboard.snapshotIfDirty()).isNull();
+    }
+
+    @Test
+    void incrementalUpdatesMatchARecomputation() {
+        Random random = new Random(7);
+        Leaderboard leaderboard = new Leaderboard(SCORING);
+        Map<String, MatchResult> stored = new HashMap<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            MatchResult result = randomMatch("m" + random.nextInt(40), random);
+            leaderboard.replace(stored.put(result.getMatchId(), result), result);
+        }
+
+        Leaderboard rebuilt = new Leaderboard(SCORING);
+        stored.values().forEach(result -> rebuilt.replace(null, result));
+        assertThat(leaderboard.top(100)).isEqualTo(rebuilt.top(100));
+    }
+
+    private static MatchResult randomMatch(String matchId, Random random) {
+        List<String> teamIds = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            teamIds.add("team-" + i);
+        }
+        Collections.shuffle(teamIds, random);
+        int size = 1 + random.nextInt(16);
+        List<MatchResult.TeamResult> teams = new ArrayList<>();
+        for (int place = 1; place <= size; place++) {
+            teams.add(team(teamIds.get(place - 1), place, random.nextInt(10)));
+        }
+        return match(matchId, teams.toArray(MatchResult.TeamResult[]::new));
+    }
+
+    private static MatchResult match(String matchId, MatchResult.TeamResult... teams) {
+        MatchResult result = new MatchResult();
+        result.setMatchId(matchId);
+        result.setTeams(List.of(teams));
+        return result;
+    }
+
+    private static MatchResult.TeamResult team(String teamId, int placement, int kills) {
+        return new MatchResult.TeamResult(teamId, placement, kills);
+    }
+}
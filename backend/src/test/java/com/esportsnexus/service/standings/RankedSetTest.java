@@ -0,0 +1,87 @@
+package com.esportsnexus.service.standings;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankedSetTest {
+
+    @Test
+    void ranksElementsInOrder() {
+        RankedSet<Integer> set = new RankedSet<>(Comparator.naturalOrder());
+        List.of(50, 10, 40, 20, 30).forEach(set::add);
+
+        assertThat(set.size()).isEqualTo(5);
+        assertThat(set.first(10)).containsExactly(10, 20, 30, 40, 50);
+        assertThat(set.first(2)).containsExactly(10, 20);
+        assertThat(set.rank(10)).isZero();
+        assertThat(set.rank(40)).isEqualTo(3);
+    }
+
+    @Test
+    void ranksAbsentElementsByPosition() {
+        RankedSet<Integer> set = new RankedSet<>(Comparator.naturalOrder());
+        List.of(10, 20, 30).forEach(set::add);
+
+        assertThat(set.rank(5)).isZero();
+        assertThat(set.rank(25)).isEqualTo(2);
+        assertThat(set.rank(99)).isEqualTo(3);
+    }
+
+    @Test
+    void removeAndReAddMovesAnElement() {
+        RankedSet<Integer> set = new RankedSet<>(Comparator.naturalOrder());
+        List.of(10, 20, 30).forEach(set::add);
+
+        set.remove(10);
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.rank(20)).isZero();
+
+        set.add(35);
+        assertThat(set.first(10)).containsExactly(20, 30, 35);
+        assertThat(set.rank(35)).isEqualTo(2);
+
+        set.add(10);
+        assertThat(set.first(10)).containsExactly(10, 20, 30, 35);
+    }
+
+    @Test
+    void removingAnAbsentElementChangesNothing() {
+        RankedSet<Integer> set = new RankedSet<>(Comparator.naturalOrder());
+        List.of(10, 20).forEach(set::add);
+
+        set.remove(15);
+
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.first(10)).containsExactly(10, 20);
+    }
+
+    @Test
+    void matchesTreeSetUnderRandomUpdates() {
+        Random random = new Random(42);
+        RankedSet<Integer> set = new RankedSet<>(Comparator.reverseOrder());
+        TreeSet<Integer> reference = new TreeSet<>(Comparator.reverseOrder());
+
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(2_000);
+            if (reference.contains(value)) {
+                set.remove(value);
+                reference.remove(value);
+            } else {
+                set.add(value);
+                reference.add(value);
+            }
+            int probe = random.nextInt(2_000);
+            assertThat(set.rank(probe)).isEqualTo(reference.headSet(probe).size());
+        }
+
+        assertThat(set.size()).isEqualTo(reference.size());
+        assertThat(set.first(reference.size())).isEqualTo(new ArrayList<>(reference));
+    }
+}
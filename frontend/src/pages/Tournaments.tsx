@@ -9,6 +9,8 @@ import './Tournaments.css';
 const Tournaments: React.FC = () => {
   const [tournaments, setTournaments] = useState<Tournament[]>([]);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
+  const [nextCursor, setNextCursor] = useState<string | undefined>();
   const [filter, setFilter] = useState<string>('all');
 
   useEffect(() => {
@@ -18,10 +20,11 @@ const Tournaments: React.FC = () => {
   const loadTournaments = async () => {
     try {
       setLoading(true);
-      const data = await tournamentService.getTournaments(
+      const page = await tournamentService.getTournamentsPage(
         filter === 'all' ? undefined : filter
       );
-      setTournaments(data);
+      setTournaments(page.items);
+      setNextCursor(page.nextCursor);
     } catch (error) {
       console.error('Error loading tournaments:', error);
     } finally {
@@ -29,6 +32,25 @@ const Tournaments: React.FC = () => {
     }
   };
 
+  // The listing is paged; the next page continues from the cursor of the last one
+  const loadMore = async () => {
+    if (!nextCursor) return;
+    try {
+      setLoadingMore(true);
+      const page = await tournamentService.getTournamentsPage(
+        filter === 'all' ? undefined : filter,
+        undefined,
+        nextCursor
+      );
+      setTournaments(current => [...current, ...page.items]);
+      setNextCursor(page.nextCursor);
+    } catch (error) {
+      console.error('Error loading more tournaments:', error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const getStatusColor = (status: string) => {
     switch (status) {
       case 'REGISTRATION_OPEN':
@@ -104,7 +126,7 @@ const Tournaments: React.FC = () => {
               key={tournament.id}
               initial={{ opacity: 0, y: 20 }}
               animate={{ opacity: 1, y: 0 }}
-              transition={{ duration: 0.5, delay: index * 0.1 }}
+              transition={{ duration: 0.5, delay: Math.min(index, 10) * 0.1 }}
             >
               <Link to={`/tournaments/${tournament.id}`} className="tournament-card glass-card">
                 <div className="tournament-banner">
@@ -130,7 +152,7 @@ const Tournaments: React.FC = () => {
                   <div className="tournament-info">
                     <div className="info-item">
                       {React.createElement(FaUsers as any)}
-                      <span>{tournament.registeredTeamIds.length}/{tournament.maxTeams} Teams</span>
+                      <span>{tournament.registeredTeamCount}/{tournament.maxTeams} Teams</span>
                     </div>
                     <div className="info-item">
                       {React.createElement(FaCalendar as any)}
@@ -155,6 +177,14 @@ const Tournaments: React.FC = () => {
         </div>
       )}
 
+      {!loading && nextCursor && (
+        <div className="tournaments-load-more">
+          <button className="filter-button" onClick={loadMore} disabled={loadingMore}>
+            {loadingMore ? 'Loading...' : 'Load more'}
+          </button>
+        </div>
+      )}
+
       {!loading && tournaments.length === 0 && (
         <div className="empty-state">
           {React.createElement(FaTrophy as any, { className: "empty-icon" })}
@@ -25,27 +25,41 @@ export interface UpdateMatchRequest {
   status: 'scheduled' | 'in_progress' | 'completed';
 }
 
+export interface TournamentPage {
+  items: Tournament[];
+  // Cursor for the next page, absent on the last page
+  nextCursor?: string;
+}
+
 export const tournamentService = {
+  // First page of tournaments; use getTournamentsPage to load the rest
   async getTournaments(status?: string, gameId?: string): Promise<Tournament[]> {
+    const page = await tournamentService.getTournamentsPage(status, gameId);
+    return page.items;
+  },
+
+  async getTournamentsPage(status?: string, gameId?: string, cursor?: string): Promise<TournamentPage> {
     try {
       // Try new microservices endpoint first
       const params = new URLSearchParams();
       if (status) params.append('status', status);
       if (gameId) params.append('game_id', gameId);
+      if (cursor) params.append('cursor', cursor);
       
       const response = await api.get(`${API_ENDPOINTS.tournaments.list}?${params.toString()}`);
-      return response.data;
+      return { items: response.data, nextCursor: response.headers['x-next-cursor'] };
     } catch (error) {
       // Fallback to backend endpoint
       const params = new URLSearchParams();
       if (status) params.append('status', status);
       if (gameId) params.append('gameId', gameId);
+      if (cursor) params.append('cursor', cursor);
       
       const token = localStorage.getItem('token');
       const response = await axios.get(`http://localhost:8000/tournaments?${params.toString()}`, {
         headers: token ? { 'Authorization': `Bearer ${token}` } : {}
       });
-      return response.data;
+      return { items: response.data, nextCursor: response.headers['x-next-cursor'] };
     }
   },
 
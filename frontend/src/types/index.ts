@@ -32,7 +32,7 @@ export interface Tournament {
   status: 'UPCOMING' | 'REGISTRATION_OPEN' | 'REGISTRATION_CLOSED' | 'ONGOING' | 'COMPLETED' | 'CANCELLED';
   maxTeams: number;
   teamSize: number;
-  registeredTeamIds: string[];
+  registeredTeamCount: number;
   registrationStartDate: string;
   registrationEndDate: string;
   startDate: string;